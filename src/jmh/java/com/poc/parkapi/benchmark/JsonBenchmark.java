@@ -0,0 +1,73 @@
+package com.poc.parkapi.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poc.parkapi.web.dto.mapper.PageableMapper;
+import com.poc.parkapi.web.dto.pageable.PageableDto;
+import com.poc.parkapi.web.dto.parking.ParkingResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response body serialization with the same ObjectMapper setup as the MVC message converter.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonBenchmark {
+
+    @Param({"5", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+
+    private ParkingResponseDto parking;
+
+    private PageableDto page;
+
+    @Setup
+    public void setup() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        LocalDateTime entryDate = LocalDateTime.of(2023, 3, 13, 10, 15);
+        parking = new ParkingResponseDto("QWE-1489", "FIAT", "Palio", "GREEN", "85212472067", "0A1B2C3D4E5F6",
+                entryDate, entryDate.plusHours(2), "A-01", new BigDecimal("16.25"), new BigDecimal("0.00"));
+
+        List<ParkingResponseDto> content = new ArrayList<>();
+        for (int i = 0; i < pageSize; i++) {
+            content.add(parking);
+        }
+        page = PageableMapper.toDto(new PageImpl<>(content, PageRequest.of(0, pageSize), pageSize * 10L));
+    }
+
+    @Benchmark
+    public byte[] parking() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(parking);
+    }
+
+    @Benchmark
+    public byte[] page() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,90 @@
+package com.poc.parkapi.benchmark;
+
+import com.poc.parkapi.jwt.JwtToken;
+import com.poc.parkapi.jwt.JwtTokenCache;
+import com.poc.parkapi.jwt.JwtUtils;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issuing cost of a login and verification cost of one authenticated request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private String token;
+
+    private JwtTokenCache tokenCache;
+
+    @Setup
+    public void setup() {
+        token = JwtUtils.JWT_BEARER + JwtUtils.createToken("maria@poc.dev", "ADMIN").getToken();
+        tokenCache = new JwtTokenCache(new SimpleMeterRegistry(), 1000);
+    }
+
+    @Benchmark
+    public JwtToken createToken() {
+        return JwtUtils.createToken("maria@poc.dev", "ADMIN");
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return JwtUtils.isTokenValid(token);
+    }
+
+    /**
+     * Verification before the shared parser: the filter validated the token and then parsed it again
+     * for the subject, building a new key and parser each time.
+     */
+    @Benchmark
+    public String verifyLegacy() {
+        String jws = token.substring(JwtUtils.JWT_BEARER.length());
+
+        Jwts.parserBuilder().setSigningKey(legacyKey()).build().parseClaimsJws(jws);
+
+        return Jwts.parserBuilder().setSigningKey(legacyKey()).build()
+                .parseClaimsJws(jws).getBody().getSubject();
+    }
+
+    @Benchmark
+    public String verify() {
+        Claims claims = JwtUtils.parseToken(token);
+
+        return claims.getSubject();
+    }
+
+    /**
+     * Repeated token served from the verified-token cache.
+     */
+    @Benchmark
+    public String verifyCached() {
+        Claims claims = tokenCache.parse(token);
+
+        return claims.getSubject();
+    }
+
+    private static Key legacyKey() {
+        return Keys.hmacShaKeyFor(JwtUtils.SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,130 @@
+package com.poc.parkapi.benchmark;
+
+import com.poc.parkapi.entity.Client;
+import com.poc.parkapi.entity.ClientVacancy;
+import com.poc.parkapi.entity.User;
+import com.poc.parkapi.entity.Vacancy;
+import com.poc.parkapi.enums.Role;
+import com.poc.parkapi.enums.StatusVacancy;
+import com.poc.parkapi.web.dto.client.ClientResponseDto;
+import com.poc.parkapi.web.dto.mapper.ClientMapper;
+import com.poc.parkapi.web.dto.mapper.ClientVacancyMapper;
+import com.poc.parkapi.web.dto.mapper.PageableMapper;
+import com.poc.parkapi.web.dto.mapper.UserMapper;
+import com.poc.parkapi.web.dto.mapper.VacancyMapper;
+import com.poc.parkapi.web.dto.pageable.PageableDto;
+import com.poc.parkapi.web.dto.parking.ParkingResponseDto;
+import com.poc.parkapi.web.dto.user.UserResponseDto;
+import com.poc.parkapi.web.dto.vacancy.VacancyResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of the generated DTO mappers.
+ * Run with '-prof gc' to check allocation per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    @Param({"1", "100"})
+    private int users;
+
+    private Client client;
+
+    private Vacancy vacancy;
+
+    private ClientVacancy clientVacancy;
+
+    private List<User> userList;
+
+    private PageImpl<ParkingResponseDto> page;
+
+    @Setup
+    public void setup() {
+        client = new Client();
+        client.setId(1L);
+        client.setName("Joao");
+        client.setCpf("85212472067");
+
+        vacancy = new Vacancy();
+        vacancy.setId(1L);
+        vacancy.setCode("A-01");
+        vacancy.setStatus(StatusVacancy.BUSY);
+
+        clientVacancy = new ClientVacancy();
+        clientVacancy.setReceipt("0A1B2C3D4E5F6");
+        clientVacancy.setPlate("QWE-1489");
+        clientVacancy.setBrand("FIAT");
+        clientVacancy.setModel("Palio");
+        clientVacancy.setColor("GREEN");
+        clientVacancy.setEntryDate(LocalDateTime.now().minusHours(2));
+        clientVacancy.setDepartureDate(LocalDateTime.now());
+        clientVacancy.setAmount(new BigDecimal("16.25"));
+        clientVacancy.setDiscount(new BigDecimal("0.00"));
+        clientVacancy.setClient(client);
+        clientVacancy.setVacancy(vacancy);
+
+        userList = new ArrayList<>();
+        for (long i = 0; i < users; i++) {
+            User user = new User();
+            user.setId(i);
+            user.setUsername("user" + i + "@poc.dev");
+            user.setRole(i % 2 == 0 ? Role.ROLE_CLIENT : Role.ROLE_ADMIN);
+            userList.add(user);
+        }
+
+        page = new PageImpl<>(List.of(new ParkingResponseDto()), PageRequest.of(0, 5), 42);
+    }
+
+    @Benchmark
+    public ClientResponseDto client() {
+        return ClientMapper.toResponseDto(client);
+    }
+
+    @Benchmark
+    public VacancyResponseDto vacancy() {
+        return VacancyMapper.toDto(vacancy);
+    }
+
+    @Benchmark
+    public UserResponseDto user() {
+        return UserMapper.toResponseDto(userList.get(0));
+    }
+
+    @Benchmark
+    public ParkingResponseDto parking() {
+        return ClientVacancyMapper.toDto(clientVacancy);
+    }
+
+    @Benchmark
+    public List<UserResponseDto> userList() {
+        return UserMapper.toResponseListDto(userList);
+    }
+
+    @Benchmark
+    public PageableDto page() {
+        return PageableMapper.toDto(page);
+    }
+}
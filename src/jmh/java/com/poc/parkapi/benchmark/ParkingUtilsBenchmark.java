@@ -0,0 +1,81 @@
+package com.poc.parkapi.benchmark;
+
+import com.poc.parkapi.entity.Tariff;
+import com.poc.parkapi.util.ParkingUtils;
+import com.poc.parkapi.util.TariffEngine;
+import com.poc.parkapi.util.TariffTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The pricing and receipt calls made by every check-in and check-out: the receipt generated on check-in, and on
+ * check-out the tariff lookup of TariffService.engineFor followed by the total and the discount.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParkingUtilsBenchmark {
+
+    @Param({"10", "200"})
+    private long minutes;
+
+    private TariffTable tariffs;
+
+    private LocalDateTime checkIn;
+
+    private LocalDateTime checkOut;
+
+    @Setup
+    public void setup() {
+        tariffs = TariffTable.compile(List.of(
+                tariff(1L, Tariff.DEFAULT_ZONE, "00:00", "00:00", 500),
+                tariff(2L, "A", "08:00", "18:00", 800)), ParkingUtils.DEFAULT_TARIFF);
+        checkIn = LocalDateTime.of(2023, 3, 13, 10, 15);
+        checkOut = checkIn.plusMinutes(minutes);
+    }
+
+    @Benchmark
+    public void checkOut(Blackhole blackhole) {
+        TariffEngine tariff = tariffs.engineFor("A-01", checkIn);
+        long amountCents = tariff.totalCents(checkIn.until(checkOut, ChronoUnit.MINUTES));
+        blackhole.consume(TariffEngine.toAmount(amountCents));
+        blackhole.consume(TariffEngine.toAmount(tariff.discountCents(amountCents, 10)));
+    }
+
+    @Benchmark
+    public String generateReceipt() {
+        return ParkingUtils.generateReceipt();
+    }
+
+    private static Tariff tariff(Long id, String zone, String start, String end, long first15MinutesCents) {
+        Tariff tariff = new Tariff();
+        tariff.setId(id);
+        tariff.setZone(zone);
+        tariff.setStartTime(LocalTime.parse(start));
+        tariff.setEndTime(LocalTime.parse(end));
+        tariff.setFirst15MinutesCents(first15MinutesCents);
+        tariff.setFirst60MinutesCents(925);
+        tariff.setAdditional15MinutesCents(175);
+        tariff.setDiscountPercent(30);
+        return tariff;
+    }
+}
@@ -0,0 +1,51 @@
+package com.poc.parkapi.benchmark;
+
+import com.poc.parkapi.util.ReceiptGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReceiptBenchmark {
+
+    private final ReceiptGenerator generator = new ReceiptGenerator(1);
+
+    /**
+     * Receipt generation before the ReceiptGenerator, kept as the baseline.
+     */
+    @Benchmark
+    public String legacyReceipt() {
+        LocalDateTime date = LocalDateTime.now();
+        String receipt = date.toString().substring(0, 19);
+
+        return receipt.replace("-", "")
+                .replace(":", "")
+                .replace("T", "-");
+    }
+
+    @Benchmark
+    public String receipt() {
+        return generator.next();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String receiptContended() {
+        return generator.next();
+    }
+}
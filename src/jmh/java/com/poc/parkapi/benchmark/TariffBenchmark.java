@@ -0,0 +1,90 @@
+package com.poc.parkapi.benchmark;
+
+import com.poc.parkapi.util.ParkingUtils;
+import com.poc.parkapi.util.TariffEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Check-out pricing (total and 10th visit discount) before and after the tariff engine.
+ * Run with '-prof gc' to compare allocation per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TariffBenchmark {
+
+    @Param({"10", "45", "200", "20000"})
+    private long minutes;
+
+    private LocalDateTime checkIn;
+
+    private LocalDateTime checkOut;
+
+    @Setup
+    public void setup() {
+        checkIn = LocalDateTime.of(2023, 3, 13, 10, 15);
+        checkOut = checkIn.plusMinutes(minutes);
+    }
+
+    @Benchmark
+    public void checkOutLegacy(Blackhole blackhole) {
+        BigDecimal amount = legacyTotal(checkIn, checkOut);
+        blackhole.consume(amount);
+        blackhole.consume(legacyDiscount(amount, 10));
+    }
+
+    @Benchmark
+    public void checkOut(Blackhole blackhole) {
+        long amountCents = ParkingUtils.calcTotalCents(checkIn, checkOut);
+        blackhole.consume(TariffEngine.toAmount(amountCents));
+        blackhole.consume(TariffEngine.toAmount(ParkingUtils.calcDiscountCents(amountCents, 10)));
+    }
+
+    private static BigDecimal legacyTotal(LocalDateTime checkIn, LocalDateTime checkOut) {
+        long minutes = checkIn.until(checkOut, ChronoUnit.MINUTES);
+        double total = 0.0;
+
+        if (minutes <= 15) {
+            total = 5.00;
+        } else if (minutes <= 60) {
+            total = 9.25;
+        } else {
+            long additionalMinutes = minutes - 60;
+            double totalParts = ((double) additionalMinutes / 15);
+            if (totalParts > (int) totalParts) {
+                total += 9.25 + (1.75 * ((int) totalParts + 1));
+            } else {
+                total += 9.25 + (1.75 * (int) totalParts);
+            }
+        }
+
+        return new BigDecimal(total).setScale(2, RoundingMode.HALF_EVEN);
+    }
+
+    private static BigDecimal legacyDiscount(BigDecimal amount, long numberOfTimes) {
+        BigDecimal discount = ((numberOfTimes > 0) && (numberOfTimes % 10 == 0))
+                ? amount.multiply(new BigDecimal(0.30))
+                : new BigDecimal(0);
+        return discount.setScale(2, RoundingMode.HALF_EVEN);
+    }
+}
@@ -0,0 +1,83 @@
+package com.poc.parkapi.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latency histogram and error count of one endpoint, recorded in microseconds.
+ */
+public class EndpointStats {
+
+    private final String name;
+
+    private final Recorder recorder = new Recorder(3);
+
+    private final AtomicLong errors = new AtomicLong();
+
+    private Histogram measured;
+
+    private long measuredErrors;
+
+    public EndpointStats(String name) {
+        this.name = name;
+    }
+
+    public void record(long latencyNanos, boolean success) {
+        recorder.recordValue(Math.max(1, latencyNanos / 1000));
+        if (!success) {
+            errors.incrementAndGet();
+        }
+    }
+
+    /**
+     * Drops everything recorded so far, used at the end of the warm-up.
+     */
+    public void reset() {
+        recorder.getIntervalHistogram();
+        errors.set(0);
+    }
+
+    public void stop() {
+        measured = recorder.getIntervalHistogram();
+        measuredErrors = errors.get();
+    }
+
+    public long count() {
+        return measured.getTotalCount();
+    }
+
+    public long errors() {
+        return measuredErrors;
+    }
+
+    public String summary(double seconds) {
+        return String.format("%-10s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f",
+                name, count(), measuredErrors, count() / seconds,
+                millis(50), millis(90), millis(99), millis(99.9), measured.getMaxValue() / 1000.0);
+    }
+
+    public static String header() {
+        return String.format("%-10s %8s %7s %9s %9s %9s %9s %9s %9s",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+    }
+
+    /**
+     * Writes the full percentile distribution in the .hgrm format read by the HdrHistogram plotter.
+     */
+    public void writeDistribution(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(name + ".hgrm")))) {
+            measured.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+
+    private double millis(double percentile) {
+        return measured.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
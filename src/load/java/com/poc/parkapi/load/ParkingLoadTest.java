@@ -0,0 +1,229 @@
+package com.poc.parkapi.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poc.parkapi.web.dto.parking.CreateParkingDto;
+import com.poc.parkapi.web.dto.user.UserLoginDto;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a mix of check-in, check-out and history requests against the app on an in-memory H2 database
+ * and reports throughput and latency percentiles per endpoint.
+ * <p>
+ * Requests are issued at a fixed rate whether or not earlier ones have finished, and latency is measured
+ * from the moment a request was due, so a slow server shows up as queueing time instead of lowering the
+ * offered load. Run with 'mvn -Pload-test test', tuning it with the 'load.*' system properties below.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "spring.jpa.show-sql=false")
+public class ParkingLoadTest {
+
+    private static final int RATE = Integer.getInteger("load.rate", 100);
+    private static final int WARMUP_SECONDS = Integer.getInteger("load.warmup", 5);
+    private static final int DURATION_SECONDS = Integer.getInteger("load.duration", 30);
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 64);
+    private static final int VACANCIES = Integer.getInteger("load.vacancies", 500);
+    private static final int CLIENTS = Integer.getInteger("load.clients", 200);
+    private static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("load.max-error-rate", "0.01"));
+
+    private static final Path REPORT_DIRECTORY = Path.of("target", "load-test");
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    Environment environment;
+
+    private final HttpClient http = HttpClient.newHttpClient();
+
+    private final EndpointStats checkInStats = new EndpointStats("check-in");
+    private final EndpointStats checkOutStats = new EndpointStats("check-out");
+    private final EndpointStats historyStats = new EndpointStats("history");
+    private final List<EndpointStats> stats = List.of(checkInStats, checkOutStats, historyStats);
+
+    private final Queue<String> openReceipts = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger occupied = new AtomicInteger();
+
+    private List<String> cpfs;
+
+    private String authorization;
+
+    @Test
+    public void parkingTrafficAtConfiguredRate() throws Exception {
+        seed();
+        cpfs = jdbcTemplate.queryForList("select cpf from clients", String.class);
+        authorization = "Bearer " + login("maria@poc.dev", "123456");
+
+        run();
+
+        long requests = 0;
+        long errors = 0;
+        String threads = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)
+                ? "virtual" : "platform";
+        System.out.printf("%nLoad test (%s threads): %d req/s for %ds after %ds of warm-up, %d vacancies, %d clients%n",
+                threads, RATE, DURATION_SECONDS, WARMUP_SECONDS, VACANCIES, CLIENTS);
+        System.out.println(EndpointStats.header());
+        for (EndpointStats endpoint : stats) {
+            System.out.println(endpoint.summary(DURATION_SECONDS));
+            endpoint.writeDistribution(REPORT_DIRECTORY);
+            requests += endpoint.count();
+            errors += endpoint.errors();
+        }
+        System.out.printf("Percentile distributions written to %s%n%n", REPORT_DIRECTORY.toAbsolutePath());
+
+        Assertions.assertThat(requests).isPositive();
+        Assertions.assertThat((double) errors / requests).isLessThanOrEqualTo(MAX_ERROR_RATE);
+    }
+
+    private void seed() throws IOException {
+        String script = new ClassPathResource("load/seed.sql").getContentAsString(StandardCharsets.UTF_8)
+                .replace("${clients}", String.valueOf(CLIENTS))
+                .replace("${vacancies}", String.valueOf(VACANCIES));
+
+        new ResourceDatabasePopulator(new ByteArrayResource(script.getBytes(StandardCharsets.UTF_8))).execute(dataSource);
+    }
+
+    private void run() throws InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(CONCURRENCY);
+        long interval = TimeUnit.SECONDS.toNanos(1) / RATE;
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(WARMUP_SECONDS);
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(DURATION_SECONDS);
+        boolean measuring = WARMUP_SECONDS == 0;
+
+        for (long due = start; due < end; due += interval) {
+            if (!measuring && due >= measureFrom) {
+                stats.forEach(EndpointStats::reset);
+                measuring = true;
+            }
+            long wait;
+            while ((wait = due - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            long scheduled = due;
+            workers.execute(() -> request(scheduled));
+        }
+
+        workers.shutdown();
+        workers.awaitTermination(1, TimeUnit.MINUTES);
+        stats.forEach(EndpointStats::stop);
+    }
+
+    /**
+     * 40% history reads, the rest split between check-in and check-out, checking out instead of in
+     * when the lot is nearly full so the run never starves for free vacancies.
+     */
+    private void request(long scheduled) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double operation = random.nextDouble();
+        String cpf = cpfs.get(random.nextInt(cpfs.size()));
+
+        if (operation < 0.4) {
+            HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/api/v1/parking/cpf/" + cpf + "?size=10")).GET());
+            historyStats.record(System.nanoTime() - scheduled, response != null && response.statusCode() == 200);
+            return;
+        }
+
+        String receipt = null;
+        if (operation >= 0.7 || occupied.get() >= VACANCIES * 0.9) {
+            receipt = openReceipts.poll();
+        }
+
+        if (receipt != null) {
+            HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/api/v1/parking/check-out/" + receipt))
+                    .PUT(HttpRequest.BodyPublishers.noBody()));
+            checkOutStats.record(System.nanoTime() - scheduled, response != null && response.statusCode() == 200);
+            occupied.decrementAndGet();
+        } else {
+            HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/api/v1/parking/check-in"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(json(checkIn(cpf)))));
+            boolean created = response != null && response.statusCode() == 201;
+            checkInStats.record(System.nanoTime() - scheduled, created);
+            if (created) {
+                occupied.incrementAndGet();
+                openReceipts.add(readField(response.body(), "receipt"));
+            }
+        }
+    }
+
+    private static CreateParkingDto checkIn(String cpf) {
+        String plate = String.format("LDT-%04d", ThreadLocalRandom.current().nextInt(10000));
+        return CreateParkingDto.builder().plate(plate).brand("FIAT").model("Palio").color("GREEN").clientCpf(cpf).build();
+    }
+
+    private String login(String username, String password) throws IOException, InterruptedException {
+        HttpResponse<String> response = http.send(HttpRequest.newBuilder(uri("/api/v1/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json(new UserLoginDto(username, password))))
+                .build(), HttpResponse.BodyHandlers.ofString());
+
+        Assertions.assertThat(response.statusCode()).isEqualTo(200);
+        return readField(response.body(), "token");
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) {
+        try {
+            return http.send(request.header("Authorization", authorization).build(), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException ex) {
+            return null;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private String json(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private String readField(String body, String field) {
+        try {
+            return objectMapper.readTree(body).get(field).asText();
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.poc.parkapi.load;
+
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * The traffic of ParkingLoadTest with requests served on virtual threads, so one run of the
+ * load-test profile reports both modes side by side.
+ */
+@ActiveProfiles("virtual-threads")
+public class VirtualThreadsParkingLoadTest extends ParkingLoadTest {
+}
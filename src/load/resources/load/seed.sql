@@ -0,0 +1,31 @@
+insert into users (id, username, password, role) values (1, 'maria@poc.dev', '$2a$10$ezozZgbQ4/w55B2dBdCQ6u.5qZbwxDZGJCpPGx/QQ27/y.SXyyGtu', 'ROLE_ADMIN');
+
+insert into users (id, username, password, role)
+select 1000 + x, concat('client', x, '@load.dev'), '$2a$10$ezozZgbQ4/w55B2dBdCQ6u.5qZbwxDZGJCpPGx/QQ27/y.SXyyGtu', 'ROLE_CLIENT'
+from system_range(1, ${clients});
+
+-- valid CPFs built from a 9 digit base plus its two check digits
+insert into clients (id, name, cpf, user_id)
+select x, concat('Client ', x), concat(base, d1, mod(mod((s2 + d1 * 2) * 10, 11), 10)), 1000 + x
+from (
+    select x, base, s2, mod(mod(s1 * 10, 11), 10) d1
+    from (
+        select x, base,
+            cast(substring(base, 1, 1) as int) * 10 + cast(substring(base, 2, 1) as int) * 9
+                + cast(substring(base, 3, 1) as int) * 8 + cast(substring(base, 4, 1) as int) * 7
+                + cast(substring(base, 5, 1) as int) * 6 + cast(substring(base, 6, 1) as int) * 5
+                + cast(substring(base, 7, 1) as int) * 4 + cast(substring(base, 8, 1) as int) * 3
+                + cast(substring(base, 9, 1) as int) * 2 s1,
+            cast(substring(base, 1, 1) as int) * 11 + cast(substring(base, 2, 1) as int) * 10
+                + cast(substring(base, 3, 1) as int) * 9 + cast(substring(base, 4, 1) as int) * 8
+                + cast(substring(base, 5, 1) as int) * 7 + cast(substring(base, 6, 1) as int) * 6
+                + cast(substring(base, 7, 1) as int) * 5 + cast(substring(base, 8, 1) as int) * 4
+                + cast(substring(base, 9, 1) as int) * 3 s2
+        from (select x, cast(100000000 + x * 7919 as varchar) base from system_range(1, ${clients}))
+    )
+);
+
+-- codes A-00 to Z-99, so at most 2600 vacancies
+insert into vacancies (id, code, status)
+select x, concat(char(65 + (x - 1) / 100), '-', lpad(cast(mod(x - 1, 100) as varchar), 2, '0')), 'FREE'
+from system_range(1, ${vacancies});
@@ -0,0 +1,45 @@
+package com.poc.parkapi.config;
+
+import com.poc.parkapi.enums.StatusVacancy;
+import com.poc.parkapi.repository.VacancyRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Vacancies per status. Counted on a schedule rather than on every scrape, so scrapes never reach the database.
+ */
+@Component
+public class OccupancyMetrics {
+
+    private final VacancyRepository vacancyRepository;
+
+    private final Map<StatusVacancy, AtomicLong> vacancies = new EnumMap<>(StatusVacancy.class);
+
+    public OccupancyMetrics(VacancyRepository vacancyRepository, MeterRegistry meterRegistry) {
+        this.vacancyRepository = vacancyRepository;
+
+        for (StatusVacancy status : StatusVacancy.values()) {
+            AtomicLong count = new AtomicLong();
+            vacancies.put(status, count);
+            Gauge.builder("parking.vacancies", count, AtomicLong::get)
+                    .description("Vacancies by status")
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${parking.metrics.occupancy-interval:15000}",
+            initialDelayString = "${parking.metrics.occupancy-interval:15000}")
+    public void refresh() {
+        vacancies.forEach((status, count) -> count.set(vacancyRepository.countByStatus(status)));
+    }
+}
@@ -0,0 +1,58 @@
+package com.poc.parkapi.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports optimistic locking contention of the parking operations:
+ * conflicts per operation, retries per call and calls that gave up after the last attempt.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component("parkingRetryListener")
+public class ParkingRetryListener implements RetryListener {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+        if (throwable instanceof OptimisticLockingFailureException) {
+            log.warn("Optimistic locking conflict on {}, attempt {}", operation(context), context.getRetryCount());
+            Counter.builder("parking.optimistic.conflicts")
+                    .description("Optimistic locking conflicts on parking operations")
+                    .tag("operation", operation(context))
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    @Override
+    public <T, E extends Throwable> void close(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+        DistributionSummary.builder("parking.optimistic.retries")
+                .description("Retries needed per parking operation call")
+                .tag("operation", operation(context))
+                .register(meterRegistry)
+                .record(context.getRetryCount());
+
+        if (throwable instanceof OptimisticLockingFailureException) {
+            Counter.builder("parking.optimistic.exhausted")
+                    .description("Parking operations that still conflicted after the last attempt")
+                    .tag("operation", operation(context))
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    private String operation(RetryContext context) {
+        Object name = context.getAttribute(RetryContext.NAME);
+        return name != null ? name.toString() : "unknown";
+    }
+}
@@ -0,0 +1,56 @@
+package com.poc.parkapi.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Hits, misses and puts of each second-level cache region, and its hit ratio since start.
+ */
+@Component
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    private final Statistics statistics;
+
+    public SecondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : SpringSecondLevelCacheConfig.REGIONS) {
+            counter(registry, region, "hit", CacheRegionStatistics::getHitCount);
+            counter(registry, region, "miss", CacheRegionStatistics::getMissCount);
+            FunctionCounter.builder("parking.cache.second-level.puts", statistics,
+                            stats -> stats.getCacheRegionStatistics(region).getPutCount())
+                    .description("Entries put in the second-level cache region")
+                    .tag("region", region)
+                    .register(registry);
+            Gauge.builder("parking.cache.second-level.hit.ratio", statistics, stats -> hitRatio(stats.getCacheRegionStatistics(region)))
+                    .description("Hits over lookups of the second-level cache region since start")
+                    .tag("region", region)
+                    .register(registry);
+        }
+    }
+
+    private void counter(MeterRegistry registry, String region, String result, ToDoubleFunction<CacheRegionStatistics> count) {
+        FunctionCounter.builder("parking.cache.second-level.requests", statistics,
+                        stats -> count.applyAsDouble(stats.getCacheRegionStatistics(region)))
+                .description("Lookups in the second-level cache region")
+                .tags("region", region, "result", result)
+                .register(registry);
+    }
+
+    private static double hitRatio(CacheRegionStatistics region) {
+        long lookups = region.getHitCount() + region.getMissCount();
+        return lookups == 0 ? Double.NaN : (double) region.getHitCount() / lookups;
+    }
+}
@@ -0,0 +1,48 @@
+package com.poc.parkapi.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@EnableCaching
+@Configuration
+public class SpringCacheConfig {
+
+    public static final String USER_DETAILS_CACHE = "jwt-user-details";
+
+    public static final String RECORD_COUNT_CACHE = "record-counts";
+
+    /**
+     * Authenticated principals by username, bounded and expired after a write so role or
+     * account changes made outside the API are picked up without a restart.
+     * <p>
+     * Puts and evictions made inside a transaction are applied only after it commits, so a request running
+     * meanwhile can't cache the row that is still about to change.
+     */
+    @Bean
+    public CacheManager cacheManager(@Value("${parking.cache.user-details.max-size:10000}") long maxSize,
+                                     @Value("${parking.cache.user-details.ttl:5m}") Duration ttl,
+                                     @Value("${parking.cache.record-counts.max-size:10000}") long countMaxSize,
+                                     @Value("${parking.cache.record-counts.ttl:1m}") Duration countTtl) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(USER_DETAILS_CACHE, Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(RECORD_COUNT_CACHE, Caffeine.newBuilder()
+                .maximumSize(countMaxSize)
+                .expireAfterWrite(countTtl)
+                .recordStats()
+                .build());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+}
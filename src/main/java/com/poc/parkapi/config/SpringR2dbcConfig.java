@@ -0,0 +1,99 @@
+package com.poc.parkapi.config;
+
+import io.r2dbc.pool.PoolingConnectionFactoryProvider;
+import io.r2dbc.spi.Closeable;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking access for the read-only dashboard queries, next to the JPA write path.
+ * <p>
+ * The connection factory is deliberately not a bean: Boot backs off its DataSource when it sees one, and
+ * the R2DBC auto-configurations are excluded in {@link com.poc.parkapi.ParkApiApplication} for the same
+ * reason. Without 'spring.r2dbc.url' the factory opens the same H2 or MySQL database, with the same credentials,
+ * the DataSource uses.
+ */
+@EnableR2dbcRepositories(basePackages = "com.poc.parkapi.repository.reactive", entityOperationsRef = "r2dbcEntityTemplate")
+@Configuration
+public class SpringR2dbcConfig implements DisposableBean {
+
+    private ConnectionFactory connectionFactory;
+
+    @Bean
+    public R2dbcEntityTemplate r2dbcEntityTemplate(DataSourceProperties dataSourceProperties,
+                                                   @Value("${spring.r2dbc.url:}") String url,
+                                                   @Value("${spring.r2dbc.username:}") String username,
+                                                   @Value("${spring.r2dbc.password:}") String password,
+                                                   @Value("${spring.r2dbc.pool.max-size:10}") int maxSize) {
+        ConnectionFactoryOptions options = url.isBlank()
+                ? ConnectionFactoryOptions.parse(fromJdbcUrl(dataSourceProperties.determineUrl()))
+                        .mutate()
+                        .option(ConnectionFactoryOptions.USER, dataSourceProperties.determineUsername())
+                        .option(ConnectionFactoryOptions.PASSWORD, nullToEmpty(dataSourceProperties.determinePassword()))
+                        .option(PoolingConnectionFactoryProvider.MAX_SIZE, maxSize)
+                        .build()
+                : ConnectionFactoryOptions.parse(url)
+                        .mutate()
+                        .option(ConnectionFactoryOptions.USER, username)
+                        .option(ConnectionFactoryOptions.PASSWORD, password)
+                        .option(PoolingConnectionFactoryProvider.MAX_SIZE, maxSize)
+                        .build();
+
+        connectionFactory = ConnectionFactories.get(options);
+
+        return new R2dbcEntityTemplate(connectionFactory);
+    }
+
+    @Override
+    public void destroy() {
+        if (connectionFactory instanceof Closeable closeable) {
+            Mono.from(closeable.close()).block();
+        }
+    }
+
+    /**
+     * jdbc:h2:mem:name;OPTIONS to r2dbc:pool:h2:mem:///name;OPTIONS and jdbc:mysql://host:port/database?OPTIONS to
+     * r2dbc:pool:mysql://host:port/database, keeping the server time zone and a disabled SSL of the JDBC options.
+     * Any other database must set 'spring.r2dbc.url'.
+     */
+    static String fromJdbcUrl(String jdbcUrl) {
+        if (jdbcUrl != null && jdbcUrl.startsWith("jdbc:h2:")) {
+            String location = jdbcUrl.substring("jdbc:h2:".length());
+            int separator = location.indexOf(':');
+
+            return "r2dbc:pool:h2:" + location.substring(0, separator) + ":///" + location.substring(separator + 1);
+        }
+        if (jdbcUrl != null && jdbcUrl.startsWith("jdbc:mysql://")) {
+            UriComponents jdbc = UriComponentsBuilder.fromUriString(jdbcUrl.substring("jdbc:".length())).build();
+            UriComponentsBuilder r2dbc = UriComponentsBuilder.newInstance()
+                    .scheme("r2dbc:pool:mysql")
+                    .host(jdbc.getHost())
+                    .port(jdbc.getPort())
+                    .path(jdbc.getPath());
+            String serverTimezone = jdbc.getQueryParams().getFirst("serverTimezone");
+            if (serverTimezone != null) {
+                r2dbc.queryParam("serverZoneId", serverTimezone);
+            }
+            if ("false".equals(jdbc.getQueryParams().getFirst("useSSL"))) {
+                r2dbc.queryParam("sslMode", "DISABLED");
+            }
+            return r2dbc.build().toUriString();
+        }
+        throw new IllegalStateException(String.format("Set 'spring.r2dbc.url' for the datasource '%s'", jdbcUrl));
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,9 @@
+package com.poc.parkapi.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.annotation.EnableRetry;
+
+@EnableRetry
+@Configuration
+public class SpringRetryConfig {
+}
@@ -0,0 +1,76 @@
+package com.poc.parkapi.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level cache for the read-mostly entities, kept in local Caffeine caches behind JCache.
+ * <p>
+ * Every region is declared here with its own bound and ttl, and Hibernate fails on start for any region
+ * not declared, so no cache is ever created unbounded. Entities are cached READ_WRITE, so changes made
+ * through Hibernate, bulk updates included, keep the regions correct; writes made with plain SQL must not
+ * update cached rows.
+ * <p>
+ * Each application context gets its own cache manager URI: the provider shares managers per URI across the JVM,
+ * so contexts started side by side (tests, restarts) would otherwise find the regions already created.
+ */
+@Configuration
+public class SpringSecondLevelCacheConfig {
+
+    public static final String VACANCY_REGION = "vacancies";
+
+    public static final String VACANCY_NATURAL_ID_REGION = "vacancies-by-code";
+
+    public static final String USER_REGION = "users";
+
+    public static final String USER_NATURAL_ID_REGION = "users-by-username";
+
+    public static final String[] REGIONS = {VACANCY_REGION, VACANCY_NATURAL_ID_REGION, USER_REGION, USER_NATURAL_ID_REGION};
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(@Value("${parking.cache.second-level.vacancies.max-size:10000}") long vacancyMaxSize,
+                                                @Value("${parking.cache.second-level.vacancies.ttl:10m}") Duration vacancyTtl,
+                                                @Value("${parking.cache.second-level.users.max-size:10000}") long userMaxSize,
+                                                @Value("${parking.cache.second-level.users.ttl:10m}") Duration userTtl) {
+        CaffeineCachingProvider provider = (CaffeineCachingProvider) Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        URI uri = URI.create(provider.getDefaultURI() + "/" + UUID.randomUUID());
+        CacheManager cacheManager = provider.getCacheManager(uri, getClass().getClassLoader());
+        cacheManager.createCache(VACANCY_REGION, region(vacancyMaxSize, vacancyTtl));
+        cacheManager.createCache(VACANCY_NATURAL_ID_REGION, region(vacancyMaxSize, vacancyTtl));
+        cacheManager.createCache(USER_REGION, region(userMaxSize, userTtl));
+        cacheManager.createCache(USER_NATURAL_ID_REGION, region(userMaxSize, userTtl));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheProperties(CacheManager secondLevelCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            // hit and miss counts per region, exposed by SecondLevelCacheMetrics
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(long maxSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        return configuration;
+    }
+}
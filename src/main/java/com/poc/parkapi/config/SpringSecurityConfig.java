@@ -2,6 +2,8 @@ package com.poc.parkapi.config;
 
 import com.poc.parkapi.jwt.JwtAuthenticationEntryPoint;
 import com.poc.parkapi.jwt.JwtAuthorizationFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -34,10 +36,16 @@ public class SpringSecurityConfig {
                 .formLogin(AbstractHttpConfigurer::disable)
                 .httpBasic(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
+                        // async dispatches only complete responses of requests that were already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        // error dispatches only render the status already decided by the original request
+                        .dispatcherTypeMatchers(DispatcherType.ERROR).permitAll()
                         .requestMatchers(
                                 antMatcher(HttpMethod.POST, "/api/v1/users"),
                                 antMatcher(HttpMethod.POST, "/api/v1/auth/login")
                         ).permitAll()
+                        .requestMatchers(antMatcher(HttpMethod.GET, "/actuator/health")).permitAll()
+                        .requestMatchers(antMatcher("/actuator/**")).hasRole("ADMIN")
                         .requestMatchers(
                                 antMatcher("/docs/index.html"),
                                 antMatcher("/docs-park.html"),
@@ -65,8 +73,8 @@ public class SpringSecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder(), meterRegistry);
     }
 
     @Bean
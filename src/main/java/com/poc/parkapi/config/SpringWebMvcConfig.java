@@ -0,0 +1,58 @@
+package com.poc.parkapi.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+public class SpringWebMvcConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Boot's task executor, on virtual threads when 'spring.threads.virtual.enabled' is set.
+     */
+    private final AsyncTaskExecutor applicationTaskExecutor;
+
+    /**
+     * Long enough for the vacancy stream; Tomcat would otherwise close it after 30 seconds.
+     */
+    private final Duration asyncTimeout;
+
+    public SpringWebMvcConfig(MeterRegistry meterRegistry, AsyncTaskExecutor applicationTaskExecutor,
+                              @Value("${parking.stream.timeout:30m}") Duration asyncTimeout) {
+        this.meterRegistry = meterRegistry;
+        this.applicationTaskExecutor = applicationTaskExecutor;
+        this.asyncTimeout = asyncTimeout;
+    }
+
+    /**
+     * With @EnableWebMvc Boot does not hand its executor to MVC, so streamed responses would run on
+     * a new platform thread each.
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(applicationTaskExecutor);
+        configurer.setDefaultTimeout(asyncTimeout.toMillis());
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter jackson) {
+                TimedJacksonHttpMessageConverter timed = new TimedJacksonHttpMessageConverter(jackson.getObjectMapper(), meterRegistry);
+                timed.setSupportedMediaTypes(jackson.getSupportedMediaTypes());
+                converters.set(i, timed);
+            }
+        }
+    }
+
+}
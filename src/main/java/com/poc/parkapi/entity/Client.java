@@ -37,6 +37,12 @@ public class Client implements Serializable {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    /**
+     * Maintained by ClientRepository bulk updates only, never written back from the entity.
+     */
+    @Column(name = "completed_visits", nullable = false, updatable = false, columnDefinition = "bigint default 0")
+    private long completedVisits;
+
     @CreatedDate
     @Column(name = "creation_date")
     private LocalDateTime creationDate;
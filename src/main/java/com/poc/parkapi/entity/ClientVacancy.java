@@ -18,7 +18,9 @@ import java.util.Objects;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "clients_have_vacancies")
+@Table(name = "clients_have_vacancies", indexes = {
+        @Index(name = "idx_client_vacancy_keyset", columnList = "client_id, entry_date, id")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class ClientVacancy implements Serializable {
 
@@ -62,6 +64,10 @@ public class ClientVacancy implements Serializable {
     @JoinColumn(name = "vacancy_id", nullable = false)
     private Vacancy vacancy;
 
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     @CreatedDate
     @Column(name = "creation_date")
     private LocalDateTime creationDate;
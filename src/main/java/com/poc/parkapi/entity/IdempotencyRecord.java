@@ -0,0 +1,67 @@
+package com.poc.parkapi.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Response stored for an Idempotency-Key, when the keys are kept in the database too.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+        @Index(name = "idx_idempotency_creation_date", columnList = "creation_date")
+})
+public class IdempotencyRecord implements Serializable {
+
+    /**
+     * SHA-256 of the user, operation and key.
+     */
+    @Id
+    @Column(name = "id", length = 64)
+    private String id;
+
+    @Column(name = "status", nullable = false)
+    private int status;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(name = "location")
+    private String location;
+
+    @Lob
+    @Column(name = "body")
+    private byte[] body;
+
+    /**
+     * SHA-256 of the request body, a replay with another body is rejected.
+     */
+    @Column(name = "request_hash", length = 64)
+    private String requestHash;
+
+    @Column(name = "creation_date", nullable = false)
+    private LocalDateTime creationDate;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        IdempotencyRecord that = (IdempotencyRecord) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
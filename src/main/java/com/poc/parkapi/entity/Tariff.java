@@ -0,0 +1,91 @@
+package com.poc.parkapi.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.CreatedBy;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedBy;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Objects;
+
+/**
+ * Rates of a zone for check-ins in [startTime, endTime). A window whose end is not after its start crosses midnight,
+ * and a window starting and ending at the same time covers the whole day.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "tariffs")
+@EntityListeners(AuditingEntityListener.class)
+public class Tariff implements Serializable {
+
+    public static final String DEFAULT_ZONE = "*";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    /**
+     * Vacancy code prefix, like 'A' for 'A-01', or {@link #DEFAULT_ZONE} for zones without their own rates.
+     */
+    @Column(name = "zone", nullable = false, length = 10)
+    private String zone;
+
+    @Column(name = "start_time", nullable = false)
+    private LocalTime startTime;
+
+    @Column(name = "end_time", nullable = false)
+    private LocalTime endTime;
+
+    @Column(name = "first_15_minutes_cents", nullable = false)
+    private long first15MinutesCents;
+
+    @Column(name = "first_60_minutes_cents", nullable = false)
+    private long first60MinutesCents;
+
+    @Column(name = "additional_15_minutes_cents", nullable = false)
+    private long additional15MinutesCents;
+
+    @Column(name = "discount_percent", nullable = false)
+    private long discountPercent;
+
+    @CreatedDate
+    @Column(name = "creation_date")
+    private LocalDateTime creationDate;
+
+    @LastModifiedDate
+    @Column(name = "modified_date")
+    private LocalDateTime modifiedDate;
+
+    @CreatedBy
+    @Column(name = "created_by")
+    private String createdBy;
+
+    @LastModifiedBy
+    @Column(name = "modified_by")
+    private String modifiedBy;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Tariff tariff = (Tariff) o;
+        return Objects.equals(id, tariff.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -1,10 +1,15 @@
 package com.poc.parkapi.entity;
 
+import com.poc.parkapi.config.SpringSecondLevelCacheConfig;
 import com.poc.parkapi.enums.Role;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedBy;
@@ -19,6 +24,8 @@ import java.util.Objects;
 @Entity
 @Table(name = "users")
 @EntityListeners(AuditingEntityListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SpringSecondLevelCacheConfig.USER_REGION)
+@NaturalIdCache(region = SpringSecondLevelCacheConfig.USER_NATURAL_ID_REGION)
 public class User implements Serializable {
 
     @Id
@@ -26,6 +33,7 @@ public class User implements Serializable {
     @Column(name = "id")
     private Long id;
 
+    @NaturalId
     @Column(name = "username", nullable = false, unique = true, length = 100)
     private String username;
 
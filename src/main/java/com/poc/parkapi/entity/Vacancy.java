@@ -1,11 +1,16 @@
 package com.poc.parkapi.entity;
 
+import com.poc.parkapi.config.SpringSecondLevelCacheConfig;
 import com.poc.parkapi.enums.StatusVacancy;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedBy;
@@ -23,6 +28,8 @@ import java.util.Objects;
 @Entity
 @Table(name = "vacancies")
 @EntityListeners(AuditingEntityListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SpringSecondLevelCacheConfig.VACANCY_REGION)
+@NaturalIdCache(region = SpringSecondLevelCacheConfig.VACANCY_NATURAL_ID_REGION)
 public class Vacancy implements Serializable {
 
     @Id
@@ -30,6 +37,7 @@ public class Vacancy implements Serializable {
     @Column(name = "id")
     private Long id;
 
+    @NaturalId
     @Column(name = "code", nullable = false, unique = true, length = 4)
     private String code;
 
@@ -37,6 +45,10 @@ public class Vacancy implements Serializable {
     @Enumerated(EnumType.STRING)
     private StatusVacancy status;
 
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     @CreatedDate
     @Column(name = "creation_date")
     private LocalDateTime creationDate;
@@ -0,0 +1,37 @@
+package com.poc.parkapi.event;
+
+import com.poc.parkapi.entity.Vacancy;
+import com.poc.parkapi.enums.StatusVacancy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.With;
+
+/**
+ * A vacancy was created or changed status. Carries a copy of the state, never the managed entity.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class VacancyStatusChangedEvent {
+
+    private final Long id;
+
+    private final String code;
+
+    private final StatusVacancy status;
+
+    /**
+     * Position of the change in the broadcast order, assigned by the broadcaster when it is emitted; 0 until then.
+     */
+    @With
+    private final long sequence;
+
+    public VacancyStatusChangedEvent(Long id, String code, StatusVacancy status) {
+        this(id, code, status, 0);
+    }
+
+    public static VacancyStatusChangedEvent of(Vacancy vacancy) {
+        return new VacancyStatusChangedEvent(vacancy.getId(), vacancy.getCode(), vacancy.getStatus());
+    }
+}
@@ -1,5 +1,8 @@
 package com.poc.parkapi.jwt;
 
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,6 +23,12 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
     @Autowired
     private JwtUserDetailsService jwtUserDetailsService;
 
+    @Autowired
+    private JwtTokenCache jwtTokenCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         final String token = request.getHeader(JwtUtils.JWT_AUTHORIZATION);
@@ -29,21 +38,24 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
             return;
         }
 
-        if (!JwtUtils.isTokenValid(token)) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        Claims claims = jwtTokenCache.parse(token);
+        if (claims == null) {
+            sample.stop(authenticationTimer("invalid"));
             log.info("JWT token already expired or is invalid");
             filterChain.doFilter(request, response);
             return;
         }
 
-        String username = JwtUtils.getUsernameFromToken(token);
-
-        toAuthentication(request, username);
+        toAuthentication(request, claims.getSubject());
+        sample.stop(authenticationTimer("authenticated"));
 
         filterChain.doFilter(request, response);
     }
 
     private void toAuthentication(HttpServletRequest request, String username) {
-        UserDetails userDetails = jwtUserDetailsService.loadUserByUsername(username);
+        UserDetails userDetails = jwtUserDetailsService.loadUserForToken(username);
 
         UsernamePasswordAuthenticationToken authenticationToken = UsernamePasswordAuthenticationToken
                 .authenticated(userDetails, null, userDetails.getAuthorities());
@@ -53,4 +65,11 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
         SecurityContextHolder.getContext().setAuthentication(authenticationToken);
     }
 
+    private Timer authenticationTimer(String outcome) {
+        return Timer.builder("parking.jwt.authentication")
+                .description("Token verification and principal lookup of the JWT filter")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
 }
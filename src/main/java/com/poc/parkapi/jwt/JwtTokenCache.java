@@ -0,0 +1,97 @@
+package com.poc.parkapi.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Claims of already verified tokens, keyed by the SHA-256 digest of the token so the raw token is never kept.
+ * <p>
+ * Each entry expires together with its token, and a hit is checked against the expiration claim again
+ * before being returned, so an expired token is never served. Invalid tokens are not cached.
+ */
+@Component
+public class JwtTokenCache {
+
+    public static final String CACHE_NAME = "jwt-tokens";
+
+    private final Cache<String, Claims> cache;
+
+    public JwtTokenCache(MeterRegistry meterRegistry,
+                         @Value("${parking.cache.jwt-tokens.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Claims of the token, verifying its signature only when it is not cached yet, or null when the token is invalid.
+     */
+    public Claims parse(String token) {
+        String key = digest(token);
+
+        Claims claims = cache.getIfPresent(key);
+        if (claims != null) {
+            if (!isExpired(claims)) {
+                return claims;
+            }
+            cache.invalidate(key);
+        }
+
+        claims = JwtUtils.parseToken(token);
+        if (claims != null && claims.getExpiration() != null) {
+            cache.put(key, claims);
+        }
+        return claims;
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private static boolean isExpired(Claims claims) {
+        return claims.getExpiration().getTime() <= System.currentTimeMillis();
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private static class TokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            long remaining = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remaining, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.poc.parkapi.jwt;
 
+import com.poc.parkapi.config.SpringCacheConfig;
 import com.poc.parkapi.entity.User;
 import com.poc.parkapi.enums.Role;
 import com.poc.parkapi.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -22,6 +24,15 @@ public class JwtUserDetailsService implements UserDetailsService {
         return new JwtUserDetails(user);
     }
 
+    /**
+     * Principal of an already validated token. Cached by username, so unlike {@link #loadUserByUsername}
+     * it must not be handed to the authentication manager, which erases the credentials of what it returns.
+     */
+    @Cacheable(cacheNames = SpringCacheConfig.USER_DETAILS_CACHE, sync = true)
+    public JwtUserDetails loadUserForToken(String username) {
+        return new JwtUserDetails(userService.findByUsername(username));
+    }
+
     public JwtToken getTokenAuthorization(String username) {
         Role role = userService.findRoleByUsername(username);
 
@@ -2,6 +2,7 @@ package com.poc.parkapi.jwt;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -25,6 +26,13 @@ public class JwtUtils {
     public static final long EXPIRE_HOURS = 0;
     public static final long EXPIRE_MINUTES = 60;
 
+    private static final Key KEY = generateKey();
+
+    /**
+     * Immutable and thread safe, shared by every request.
+     */
+    private static final JwtParser PARSER = Jwts.parserBuilder().setSigningKey(KEY).build();
+
     public JwtUtils() {
     }
 
@@ -48,40 +56,37 @@ public class JwtUtils {
                 .setSubject(username)
                 .setIssuedAt(issuedAt)
                 .setExpiration(limit)
-                .signWith(generateKey(), SignatureAlgorithm.HS256)
+                .signWith(KEY, SignatureAlgorithm.HS256)
                 .claim("role", role)
                 .compact();
 
         return new JwtToken(token);
     }
 
-    private static Claims getClaimsFromToken(String token) {
+    /**
+     * Verifies the signature and expiration of the token once and returns its claims,
+     * or null when the token is invalid.
+     */
+    public static Claims parseToken(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(generateKey()).build()
-                    .parseClaimsJws(refactorToken(token)).getBody();
-        } catch (JwtException ex) {
+            return PARSER.parseClaimsJws(refactorToken(token)).getBody();
+        } catch (JwtException | IllegalArgumentException ex) {
             log.error("Invalid token -> " + ex.getMessage());
         }
 
         return null;
     }
 
+    /**
+     * Returns the subject of the token, or null when the token is invalid.
+     */
     public static String getUsernameFromToken(String token) {
-        return getClaimsFromToken(token).getSubject();
+        Claims claims = parseToken(token);
+        return claims == null ? null : claims.getSubject();
     }
 
     public static boolean isTokenValid(String token) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(generateKey()).build()
-                    .parseClaimsJws(refactorToken(token));
-            return true;
-        } catch (JwtException ex) {
-            log.error("Invalid token -> " + ex.getMessage());
-        }
-
-        return false;
+        return parseToken(token) != null;
     }
 
     private static String refactorToken(String token) {
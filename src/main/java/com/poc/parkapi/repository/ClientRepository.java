@@ -4,10 +4,15 @@ import com.poc.parkapi.entity.Client;
 import com.poc.parkapi.repository.projection.ClientProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -16,7 +21,28 @@ public interface ClientRepository extends JpaRepository<Client, Long> {
     @Query("select c from Client c")
     Page<ClientProjection> findAllClients(Pageable pageable);
 
+    @Query("select c from Client c")
+    Slice<ClientProjection> findSliceOfClients(Pageable pageable);
+
     Client findByUserId(Long id);
 
     Optional<Client> findByCpf(String cpf);
+
+    List<Client> findAllByCpfIn(Collection<String> cpfs);
+
+    @Modifying
+    @Query("update Client c set c.completedVisits = c.completedVisits + 1 where c.id = :id")
+    int incrementCompletedVisits(@Param("id") Long id);
+
+    @Query("select c.completedVisits from Client c where c.id = :id")
+    long findCompletedVisitsById(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Client c set c.completedVisits = " +
+            "(select count(cv) from ClientVacancy cv where cv.client = c and cv.departureDate is not null) " +
+            "where c.id >= :fromId and c.id < :toId")
+    int reconcileCompletedVisits(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("select coalesce(max(c.id), 0) from Client c")
+    long findMaxId();
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.poc.parkapi.repository;
+
+import com.poc.parkapi.entity.ClientVacancy;
+
+import java.util.List;
+
+public interface ClientVacancyBatchRepository {
+
+    /**
+     * Inserts new parking with JDBC batches, skipping the persistence context.
+     * Client and vacancy must already have ids; the generated parking ids are not read back.
+     */
+    void insertAll(List<ClientVacancy> parking);
+}
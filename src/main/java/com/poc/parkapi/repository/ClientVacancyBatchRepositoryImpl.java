@@ -0,0 +1,51 @@
+package com.poc.parkapi.repository;
+
+import com.poc.parkapi.entity.ClientVacancy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Same approach as {@link VacancyBatchRepositoryImpl}: IDENTITY ids keep Hibernate from batching, so the rows
+ * of a batched check-in are written with plain JDBC batches and the auditing columns are filled here.
+ */
+@RequiredArgsConstructor
+public class ClientVacancyBatchRepositoryImpl implements ClientVacancyBatchRepository {
+
+    private static final String INSERT = "insert into clients_have_vacancies (receipt_number, plate, brand, model, color, " +
+            "entry_date, client_id, vacancy_id, version, creation_date, modified_date, created_by, modified_by) " +
+            "values (?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?, ?, ?)";
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final AuditorAware<String> auditorAware;
+
+    @Override
+    public void insertAll(List<ClientVacancy> parking) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Optional<String> currentAuditor = auditorAware.getCurrentAuditor();
+        String auditor = currentAuditor == null ? null : currentAuditor.orElse(null);
+
+        jdbcTemplate.batchUpdate(INSERT, parking, BATCH_SIZE, (ps, clientVacancy) -> {
+            ps.setString(1, clientVacancy.getReceipt());
+            ps.setString(2, clientVacancy.getPlate());
+            ps.setString(3, clientVacancy.getBrand());
+            ps.setString(4, clientVacancy.getModel());
+            ps.setString(5, clientVacancy.getColor());
+            ps.setTimestamp(6, Timestamp.valueOf(clientVacancy.getEntryDate()));
+            ps.setLong(7, clientVacancy.getClient().getId());
+            ps.setLong(8, clientVacancy.getVacancy().getId());
+            ps.setTimestamp(9, now);
+            ps.setTimestamp(10, now);
+            ps.setString(11, auditor);
+            ps.setString(12, auditor);
+        });
+    }
+}
@@ -0,0 +1,15 @@
+package com.poc.parkapi.repository;
+
+import com.poc.parkapi.repository.projection.ClientVacancyProjection;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+public interface ClientVacancyExportRepository {
+
+    /**
+     * Whole parking history of the client entered in [from, to), read with the export fetch size so the rows are
+     * streamed from the database instead of buffered. Must be consumed and closed inside a transaction.
+     */
+    Stream<ClientVacancyProjection> streamByClientCpf(String cpf, LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,61 @@
+package com.poc.parkapi.repository;
+
+import com.poc.parkapi.repository.projection.ClientVacancyProjection;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static com.poc.parkapi.repository.ClientVacancyRepository.KEYSET_ORDER;
+import static com.poc.parkapi.repository.ClientVacancyRepository.KEYSET_SELECT;
+
+/**
+ * The fetch size is a per-query setting here rather than a connection flag: MySQL only streams a plain result set
+ * with a fetch size of {@link Integer#MIN_VALUE}, which other drivers (H2) reject, so it comes from
+ * {@code parking.export.fetch-size}.
+ */
+public class ClientVacancyExportRepositoryImpl implements ClientVacancyExportRepository {
+
+    private static final String STREAM_BY_CLIENT_CPF = KEYSET_SELECT +
+            "where c.cpf = :cpf and cv.entryDate >= :from and cv.entryDate < :to " + KEYSET_ORDER;
+
+    private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+    private final int fetchSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ClientVacancyExportRepositoryImpl(@Value("${parking.export.fetch-size:500}") int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public Stream<ClientVacancyProjection> streamByClientCpf(String cpf, LocalDateTime from, LocalDateTime to) {
+        return entityManager.createQuery(STREAM_BY_CLIENT_CPF, Tuple.class)
+                .setParameter("cpf", cpf)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .map(this::toProjection);
+    }
+
+    private ClientVacancyProjection toProjection(Tuple tuple) {
+        Map<String, Object> values = new HashMap<>();
+        for (TupleElement<?> element : tuple.getElements()) {
+            values.put(element.getAlias(), tuple.get(element));
+        }
+        return projectionFactory.createProjection(ClientVacancyProjection.class, values);
+    }
+}
@@ -4,16 +4,59 @@ import com.poc.parkapi.entity.ClientVacancy;
 import com.poc.parkapi.repository.projection.ClientVacancyProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
-public interface ClientVacancyRepository extends JpaRepository<ClientVacancy, Long> {
-    Optional<ClientVacancy> findByReceiptAndDepartureDateIsNull(String receipt);
+public interface ClientVacancyRepository extends JpaRepository<ClientVacancy, Long>, ClientVacancyBatchRepository,
+        ClientVacancyExportRepository {
+
+    String KEYSET_SELECT = "select cv.id as id, cv.plate as plate, cv.brand as brand, cv.model as model, " +
+            "cv.color as color, c.cpf as clientCpf, cv.receipt as receipt, cv.entryDate as entryDate, " +
+            "cv.departureDate as departureDate, v.code as vacancyCode, cv.amount as amount, cv.discount as discount " +
+            "from ClientVacancy cv join cv.client c join cv.vacancy v ";
 
-    long countByClientCpfAndDepartureDateIsNotNull(String cpf);
+    String KEYSET_AFTER = "and (cv.entryDate > :entryDate or (cv.entryDate = :entryDate and cv.id > :id)) ";
+
+    String KEYSET_ORDER = "order by cv.entryDate asc, cv.id asc";
+
+    Optional<ClientVacancy> findByReceiptAndDepartureDateIsNull(String receipt);
 
     Page<ClientVacancyProjection> findAllByClientCpf(String cpf, Pageable pageable);
 
     Page<ClientVacancyProjection> findAllByClientUserId(Long id, Pageable pageable);
-}
\ No newline at end of file
+
+    Slice<ClientVacancyProjection> findSliceByClientCpf(String cpf, Pageable pageable);
+
+    Slice<ClientVacancyProjection> findSliceByClientUserId(Long id, Pageable pageable);
+
+    long countByClientCpf(String cpf);
+
+    long countByClientUserId(Long id);
+
+    /**
+     * First keyset page of a client's parking history. The pageable only limits the rows, no count is issued.
+     */
+    @Query(KEYSET_SELECT + "where c.cpf = :cpf " + KEYSET_ORDER)
+    List<ClientVacancyProjection> findKeysetByClientCpf(@Param("cpf") String cpf, Pageable pageable);
+
+    @Query(KEYSET_SELECT + "where c.cpf = :cpf " + KEYSET_AFTER + KEYSET_ORDER)
+    List<ClientVacancyProjection> findKeysetByClientCpfAfter(@Param("cpf") String cpf,
+                                                             @Param("entryDate") LocalDateTime entryDate,
+                                                             @Param("id") Long id,
+                                                             Pageable pageable);
+
+    @Query(KEYSET_SELECT + "where c.user.id = :userId " + KEYSET_ORDER)
+    List<ClientVacancyProjection> findKeysetByClientUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(KEYSET_SELECT + "where c.user.id = :userId " + KEYSET_AFTER + KEYSET_ORDER)
+    List<ClientVacancyProjection> findKeysetByClientUserIdAfter(@Param("userId") Long userId,
+                                                                @Param("entryDate") LocalDateTime entryDate,
+                                                                @Param("id") Long id,
+                                                                Pageable pageable);
+}
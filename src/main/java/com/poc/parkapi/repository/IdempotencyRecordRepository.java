@@ -0,0 +1,18 @@
+package com.poc.parkapi.repository;
+
+import com.poc.parkapi.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.creationDate < :creationDate")
+    int deleteAllCreatedBefore(@Param("creationDate") LocalDateTime creationDate);
+}
@@ -0,0 +1,23 @@
+package com.poc.parkapi.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Loads entities by their @NaturalId. Unlike a query on the same column, the lookup goes through the
+ * natural-id and entity second-level cache regions, so a cached entity is found without a database round-trip.
+ */
+@Repository
+public class NaturalIdLookup {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public <T> Optional<T> find(Class<T> type, Object naturalId) {
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(type).loadOptional(naturalId);
+    }
+}
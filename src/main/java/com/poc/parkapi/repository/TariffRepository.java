@@ -0,0 +1,7 @@
+package com.poc.parkapi.repository;
+
+import com.poc.parkapi.entity.Tariff;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TariffRepository extends JpaRepository<Tariff, Long> {
+}
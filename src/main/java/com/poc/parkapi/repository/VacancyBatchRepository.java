@@ -0,0 +1,14 @@
+package com.poc.parkapi.repository;
+
+import com.poc.parkapi.entity.Vacancy;
+
+import java.util.List;
+
+public interface VacancyBatchRepository {
+
+    /**
+     * Inserts new vacancies with JDBC batches, skipping the persistence context.
+     * Ids are not read back; the vacancies must be looked up by code afterwards.
+     */
+    void insertAll(List<Vacancy> vacancies);
+}
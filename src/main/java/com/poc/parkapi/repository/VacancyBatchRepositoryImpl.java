@@ -0,0 +1,45 @@
+package com.poc.parkapi.repository;
+
+import com.poc.parkapi.entity.Vacancy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Vacancy ids are IDENTITY columns, which keeps Hibernate from batching their inserts. Plain JDBC batches
+ * don't need the generated ids, and with 'rewriteBatchedStatements' MySQL gets one multi-row insert per batch.
+ * Auditing columns are filled here because the entity listener is bypassed.
+ */
+@RequiredArgsConstructor
+public class VacancyBatchRepositoryImpl implements VacancyBatchRepository {
+
+    private static final String INSERT = "insert into vacancies (code, status, version, creation_date, modified_date, " +
+            "created_by, modified_by) values (?, ?, 0, ?, ?, ?, ?)";
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final AuditorAware<String> auditorAware;
+
+    @Override
+    public void insertAll(List<Vacancy> vacancies) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Optional<String> currentAuditor = auditorAware.getCurrentAuditor();
+        String auditor = currentAuditor == null ? null : currentAuditor.orElse(null);
+
+        jdbcTemplate.batchUpdate(INSERT, vacancies, BATCH_SIZE, (ps, vacancy) -> {
+            ps.setString(1, vacancy.getCode());
+            ps.setString(2, vacancy.getStatus().name());
+            ps.setTimestamp(3, now);
+            ps.setTimestamp(4, now);
+            ps.setString(5, auditor);
+            ps.setString(6, auditor);
+        });
+    }
+}
@@ -2,15 +2,61 @@ package com.poc.parkapi.repository;
 
 import com.poc.parkapi.entity.Vacancy;
 import com.poc.parkapi.enums.StatusVacancy;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface VacancyRepository extends JpaRepository<Vacancy, Long> {
+public interface VacancyRepository extends JpaRepository<Vacancy, Long>, VacancyBatchRepository {
 
-    Optional<Vacancy> findByCode(String code);
+    String LOCK_TIMEOUT = "jakarta.persistence.lock.timeout";
 
-    Optional<Vacancy> findFirstByStatus(StatusVacancy statusVacancy);
+    /**
+     * Hibernate's lock timeout value for SKIP LOCKED (LockOptions.SKIP_LOCKED).
+     */
+    String SKIP_LOCKED = "-2";
+
+    List<Vacancy> findAllByCodeIn(Collection<String> codes);
+
+    @Query("select v.code from Vacancy v where v.code in :codes")
+    List<String> findAllCodesByCodeIn(@Param("codes") Collection<String> codes);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = LOCK_TIMEOUT, value = SKIP_LOCKED))
+    Optional<Vacancy> findFirstByStatusOrderByIdAsc(StatusVacancy statusVacancy);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = LOCK_TIMEOUT, value = SKIP_LOCKED))
+    Optional<Vacancy> findByIdAndStatus(Long id, StatusVacancy statusVacancy);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = LOCK_TIMEOUT, value = SKIP_LOCKED))
+    List<Vacancy> findByStatusOrderByIdAsc(StatusVacancy statusVacancy, Limit limit);
+
+    /**
+     * Changes the status of vacancies already locked by the caller. The persistence context is cleared,
+     * so previously loaded vacancies must not be modified afterwards.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Vacancy v set v.status = :status, v.version = v.version + 1, v.modifiedDate = :modifiedDate " +
+            "where v.id in :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("status") StatusVacancy status,
+                           @Param("modifiedDate") LocalDateTime modifiedDate);
+
+    long countByStatus(StatusVacancy status);
+
+    @Query("select v.id from Vacancy v where v.status = :status")
+    List<Long> findAllIdsByStatus(@Param("status") StatusVacancy status);
 }
\ No newline at end of file
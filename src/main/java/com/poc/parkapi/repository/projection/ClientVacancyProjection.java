@@ -1,6 +1,7 @@
 package com.poc.parkapi.repository.projection;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 
 import java.math.BigDecimal;
@@ -9,6 +10,9 @@ import java.time.LocalDateTime;
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public interface ClientVacancyProjection {
 
+    @JsonIgnore
+    Long getId();
+
     String getPlate();
 
     String getBrand();
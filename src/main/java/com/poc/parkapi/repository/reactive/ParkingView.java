@@ -0,0 +1,46 @@
+package com.poc.parkapi.repository.reactive;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only R2DBC view of a parking joined with its client and vacancy, see {@link ParkingViewRepository}.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Table("clients_have_vacancies")
+public class ParkingView {
+
+    @Id
+    private Long id;
+
+    private String plate;
+
+    private String brand;
+
+    private String model;
+
+    private String color;
+
+    private String clientCpf;
+
+    private String receipt;
+
+    private LocalDateTime entryDate;
+
+    private LocalDateTime departureDate;
+
+    private String vacancyCode;
+
+    private BigDecimal amount;
+
+    private BigDecimal discount;
+
+}
@@ -0,0 +1,27 @@
+package com.poc.parkapi.repository.reactive;
+
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Flux;
+
+public interface ParkingViewRepository extends Repository<ParkingView, Long> {
+
+    String VIEW_SELECT = "select cv.id, cv.plate, cv.brand, cv.model, cv.color, c.cpf as client_cpf, " +
+            "cv.receipt_number as receipt, cv.entry_date, cv.departure_date, v.code as vacancy_code, " +
+            "cv.amount, cv.discount " +
+            "from clients_have_vacancies cv " +
+            "join clients c on c.id = cv.client_id " +
+            "join vacancies v on v.id = cv.vacancy_id ";
+
+    String LATEST = "order by cv.entry_date desc, cv.id desc limit :size";
+
+    /**
+     * The client's most recent parking first, read backwards along idx_client_vacancy_keyset.
+     */
+    @Query(VIEW_SELECT + "where c.cpf = :cpf " + LATEST)
+    Flux<ParkingView> findLatestByClientCpf(@Param("cpf") String cpf, @Param("size") int size);
+
+    @Query(VIEW_SELECT + "where c.user_id = :userId " + LATEST)
+    Flux<ParkingView> findLatestByClientUserId(@Param("userId") Long userId, @Param("size") int size);
+}
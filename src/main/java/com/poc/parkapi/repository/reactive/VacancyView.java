@@ -0,0 +1,26 @@
+package com.poc.parkapi.repository.reactive;
+
+import com.poc.parkapi.enums.StatusVacancy;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Read-only R2DBC view of the vacancies table.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Table("vacancies")
+public class VacancyView {
+
+    @Id
+    private Long id;
+
+    private String code;
+
+    private StatusVacancy status;
+
+}
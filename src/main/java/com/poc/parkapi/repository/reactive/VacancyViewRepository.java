@@ -0,0 +1,15 @@
+package com.poc.parkapi.repository.reactive;
+
+import com.poc.parkapi.enums.StatusVacancy;
+import org.springframework.data.repository.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface VacancyViewRepository extends Repository<VacancyView, Long> {
+
+    Mono<Long> countByStatus(StatusVacancy status);
+
+    Flux<VacancyView> findAllByStatusOrderByCodeAsc(StatusVacancy status);
+
+    Flux<VacancyView> findAllByOrderByCodeAsc();
+}
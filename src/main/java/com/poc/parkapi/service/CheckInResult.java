@@ -0,0 +1,30 @@
+package com.poc.parkapi.service;
+
+import com.poc.parkapi.entity.ClientVacancy;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Outcome of one entry of a batched check-in: the parking created, or why it wasn't.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CheckInResult {
+
+    private final ClientVacancy parking;
+
+    private final RuntimeException error;
+
+    public static CheckInResult checkedIn(ClientVacancy parking) {
+        return new CheckInResult(parking, null);
+    }
+
+    public static CheckInResult failed(RuntimeException error) {
+        return new CheckInResult(null, error);
+    }
+
+    public boolean isCheckedIn() {
+        return parking != null;
+    }
+}
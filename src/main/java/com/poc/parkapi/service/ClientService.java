@@ -1,5 +1,6 @@
 package com.poc.parkapi.service;
 
+import com.poc.parkapi.config.SpringCacheConfig;
 import com.poc.parkapi.entity.Client;
 import com.poc.parkapi.repository.ClientRepository;
 import com.poc.parkapi.repository.projection.ClientProjection;
@@ -7,11 +8,19 @@ import com.poc.parkapi.web.exception.CpfUniqueViolationException;
 import com.poc.parkapi.web.exception.UserNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Slf4j
@@ -20,6 +29,8 @@ public class ClientService {
 
     private final ClientRepository clientRepository;
 
+    private final TransactionTemplate transactionTemplate;
+
     @Transactional
     public Client save(Client client) {
         try {
@@ -41,6 +52,17 @@ public class ClientService {
         return clientRepository.findAllClients(pageable);
     }
 
+    @Transactional(readOnly = true)
+    public Slice<ClientProjection> findSlice(Pageable pageable) {
+        return clientRepository.findSliceOfClients(pageable);
+    }
+
+    @Cacheable(cacheNames = SpringCacheConfig.RECORD_COUNT_CACHE, key = "'clients'", sync = true)
+    @Transactional(readOnly = true)
+    public long estimateCount() {
+        return clientRepository.count();
+    }
+
     @Transactional(readOnly = true)
     public Client findByUserId(Long id) {
         return clientRepository.findByUserId(id);
@@ -51,4 +73,40 @@ public class ClientService {
         return clientRepository.findByCpf(cpf)
                 .orElseThrow(() -> new UserNotFoundException(String.format("Client with cpf=%s not founded", cpf)));
     }
+
+    /**
+     * Clients found for the given cpfs, by cpf. Unknown cpfs are simply missing from the map.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Client> findAllByCpf(Collection<String> cpfs) {
+        return clientRepository.findAllByCpfIn(cpfs).stream()
+                .collect(Collectors.toMap(Client::getCpf, Function.identity()));
+    }
+
+    /**
+     * Counts a completed visit for the client and returns how many visits were completed before this one.
+     * The row stays locked by the increment until the transaction ends, so concurrent check-outs can't
+     * read the same value.
+     */
+    @Transactional
+    public long registerCompletedVisit(Long clientId) {
+        clientRepository.incrementCompletedVisits(clientId);
+        return clientRepository.findCompletedVisitsById(clientId) - 1;
+    }
+
+    /**
+     * Rebuilds the completed visits counters from clients_have_vacancies, chunkSize clients per transaction,
+     * so each statement only locks a slice of the clients for a short time.
+     */
+    public void reconcileCompletedVisits(int chunkSize) {
+        long maxId = clientRepository.findMaxId();
+        int updated = 0;
+        for (long fromId = 0; fromId <= maxId; fromId += chunkSize) {
+            long from = fromId;
+            Integer chunk = transactionTemplate.execute(status ->
+                    clientRepository.reconcileCompletedVisits(from, from + chunkSize));
+            updated += chunk == null ? 0 : chunk;
+        }
+        log.info("Completed visits reconciled for {} clients", updated);
+    }
 }
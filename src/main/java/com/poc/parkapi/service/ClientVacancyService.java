@@ -1,19 +1,32 @@
 package com.poc.parkapi.service;
 
+import com.poc.parkapi.config.SpringCacheConfig;
 import com.poc.parkapi.entity.ClientVacancy;
 import com.poc.parkapi.repository.ClientVacancyRepository;
 import com.poc.parkapi.repository.projection.ClientVacancyProjection;
+import com.poc.parkapi.util.ParkingCursor;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
 @RequiredArgsConstructor
 @Service
 public class ClientVacancyService {
 
+    private static final LocalDateTime EXPORT_START = LocalDateTime.of(1000, 1, 1, 0, 0);
+    private static final LocalDateTime EXPORT_END = LocalDateTime.of(9999, 12, 31, 0, 0);
+
     private final ClientVacancyRepository clientVacancyRepository;
 
     @Transactional
@@ -21,17 +34,17 @@ public class ClientVacancyService {
         return clientVacancyRepository.save(clientVacancy);
     }
 
+    @Transactional
+    public void insertAll(List<ClientVacancy> parking) {
+        clientVacancyRepository.insertAll(parking);
+    }
+
     @Transactional(readOnly = true)
     public ClientVacancy findByReceipt(String receipt) {
         return clientVacancyRepository.findByReceiptAndDepartureDateIsNull(receipt)
                 .orElseThrow(() -> new EntityNotFoundException(String.format("Receipt '%s' not found or check-out already did", receipt)));
     }
 
-    @Transactional(readOnly = true)
-    public long getTotalTimesOfCompleteVacancy(String cpf) {
-        return clientVacancyRepository.countByClientCpfAndDepartureDateIsNotNull(cpf);
-    }
-
     @Transactional
     public Page<ClientVacancyProjection> findAllByClientCpf(String cpf, Pageable pageable) {
         return clientVacancyRepository.findAllByClientCpf(cpf, pageable);
@@ -41,4 +54,62 @@ public class ClientVacancyService {
     public Page<ClientVacancyProjection> findAllFromUserId(Long id, Pageable pageable) {
         return clientVacancyRepository.findAllByClientUserId(id, pageable);
     }
+
+    @Transactional(readOnly = true)
+    public Slice<ClientVacancyProjection> findSliceByClientCpf(String cpf, Pageable pageable) {
+        return clientVacancyRepository.findSliceByClientCpf(cpf, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<ClientVacancyProjection> findSliceFromUserId(Long id, Pageable pageable) {
+        return clientVacancyRepository.findSliceByClientUserId(id, pageable);
+    }
+
+    /**
+     * Parking count of the client, refreshed at most once per cache ttl.
+     */
+    @Cacheable(cacheNames = SpringCacheConfig.RECORD_COUNT_CACHE, key = "'parking-cpf:' + #cpf", sync = true)
+    @Transactional(readOnly = true)
+    public long estimateCountByClientCpf(String cpf) {
+        return clientVacancyRepository.countByClientCpf(cpf);
+    }
+
+    @Cacheable(cacheNames = SpringCacheConfig.RECORD_COUNT_CACHE, key = "'parking-user:' + #id", sync = true)
+    @Transactional(readOnly = true)
+    public long estimateCountFromUserId(Long id) {
+        return clientVacancyRepository.countByClientUserId(id);
+    }
+
+    /**
+     * Up to limit parking of the client after the cursor (or from the start when it is null), ordered by (entryDate, id).
+     */
+    @Transactional(readOnly = true)
+    public List<ClientVacancyProjection> findKeysetByClientCpf(String cpf, ParkingCursor cursor, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+        if (cursor == null) {
+            return clientVacancyRepository.findKeysetByClientCpf(cpf, pageable);
+        }
+        return clientVacancyRepository.findKeysetByClientCpfAfter(cpf, cursor.getEntryDate(), cursor.getId(), pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ClientVacancyProjection> findKeysetFromUserId(Long id, ParkingCursor cursor, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+        if (cursor == null) {
+            return clientVacancyRepository.findKeysetByClientUserId(id, pageable);
+        }
+        return clientVacancyRepository.findKeysetByClientUserIdAfter(id, cursor.getEntryDate(), cursor.getId(), pageable);
+    }
+
+    /**
+     * Hands every parking of the client entered in [from, to) to the consumer, in entry order, without loading
+     * the history in memory. Open bounds are null.
+     */
+    @Transactional(readOnly = true)
+    public void exportByClientCpf(String cpf, LocalDateTime from, LocalDateTime to, Consumer<ClientVacancyProjection> consumer) {
+        try (Stream<ClientVacancyProjection> rows = clientVacancyRepository.streamByClientCpf(cpf,
+                from == null ? EXPORT_START : from, to == null ? EXPORT_END : to)) {
+            rows.forEach(consumer);
+        }
+    }
 }
@@ -0,0 +1,27 @@
+package com.poc.parkapi.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled repair of the completed visits counters. Off by default: enable it on a single node with
+ * 'parking.loyalty.reconcile.enabled', so nodes don't repair the same rows at the same time.
+ */
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "parking.loyalty.reconcile.enabled", havingValue = "true")
+@Component
+public class CompletedVisitsReconciler {
+
+    private final ClientService clientService;
+
+    @Value("${parking.loyalty.reconcile.chunk-size:1000}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${parking.loyalty.reconcile.cron:0 0 4 * * *}")
+    public void reconcile() {
+        clientService.reconcileCompletedVisits(chunkSize);
+    }
+}
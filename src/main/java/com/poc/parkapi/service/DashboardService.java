@@ -0,0 +1,50 @@
+package com.poc.parkapi.service;
+
+import com.poc.parkapi.enums.StatusVacancy;
+import com.poc.parkapi.event.VacancyStatusChangedEvent;
+import com.poc.parkapi.repository.reactive.ParkingView;
+import com.poc.parkapi.repository.reactive.ParkingViewRepository;
+import com.poc.parkapi.repository.reactive.VacancyView;
+import com.poc.parkapi.repository.reactive.VacancyViewRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking reads for the dashboards that poll occupancy and history. Writes stay on the JPA services.
+ */
+@RequiredArgsConstructor
+@Service
+public class DashboardService {
+
+    private final VacancyViewRepository vacancyViewRepository;
+
+    private final ParkingViewRepository parkingViewRepository;
+
+    private final VacancyStatusBroadcaster vacancyStatusBroadcaster;
+
+    public Mono<Long> countByStatus(StatusVacancy status) {
+        return vacancyViewRepository.countByStatus(status);
+    }
+
+    public Flux<VacancyView> findAllByStatus(StatusVacancy status) {
+        return vacancyViewRepository.findAllByStatusOrderByCodeAsc(status);
+    }
+
+    public Flux<VacancyView> findAllVacancies() {
+        return vacancyViewRepository.findAllByOrderByCodeAsc();
+    }
+
+    public Flux<VacancyStatusChangedEvent> vacancyStatusChanges() {
+        return vacancyStatusBroadcaster.changes();
+    }
+
+    public Flux<ParkingView> findLatestByClientCpf(String cpf, int size) {
+        return parkingViewRepository.findLatestByClientCpf(cpf, size);
+    }
+
+    public Flux<ParkingView> findLatestFromUserId(Long id, int size) {
+        return parkingViewRepository.findLatestByClientUserId(id, size);
+    }
+}
@@ -4,13 +4,27 @@ import com.poc.parkapi.entity.Client;
 import com.poc.parkapi.entity.ClientVacancy;
 import com.poc.parkapi.entity.Vacancy;
 import com.poc.parkapi.enums.StatusVacancy;
+import com.poc.parkapi.event.VacancyStatusChangedEvent;
 import com.poc.parkapi.util.ParkingUtils;
+import com.poc.parkapi.util.TariffEngine;
+import com.poc.parkapi.web.exception.UserNotFoundException;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
@@ -22,14 +36,32 @@ public class ParkingService {
 
     private final VacancyService vacancyService;
 
+    private final VacancyAllocator vacancyAllocator;
+
+    private final TariffService tariffService;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Retryable(label = "check-in", retryFor = OptimisticLockingFailureException.class,
+            maxAttemptsExpression = "${parking.retry.max-attempts:4}",
+            backoff = @Backoff(delayExpression = "${parking.retry.delay:20}",
+                    maxDelayExpression = "${parking.retry.max-delay:200}",
+                    multiplier = 2, random = true),
+            listeners = "parkingRetryListener")
+    @Timed(value = "parking.gate", extraTags = {"operation", "check-in"}, description = "Check-in at the gate")
     @Transactional
     public ClientVacancy checkIn(ClientVacancy clientVacancy) {
+        // a retried attempt must insert a new row instead of merging the rolled back one
+        clientVacancy.setId(null);
+        clientVacancy.setVersion(null);
+
         Client client = clientService.findByCpf(clientVacancy.getClient().getCpf());
         clientVacancy.setClient(client);
 
         Vacancy vacancy = vacancyService.findByFreeVacancy();
         vacancy.setStatus(StatusVacancy.BUSY);
         clientVacancy.setVacancy(vacancy);
+        eventPublisher.publishEvent(VacancyStatusChangedEvent.of(vacancy));
 
         clientVacancy.setEntryDate(LocalDateTime.now());
         clientVacancy.setReceipt(ParkingUtils.generateReceipt());
@@ -37,21 +69,84 @@ public class ParkingService {
         return clientVacancyService.save(clientVacancy);
     }
 
+    /**
+     * Checks in the entries replayed by a gate, keeping the entry date recorded at the gate when there is one.
+     * Clients are resolved and free vacancies claimed with one query each, and the parking inserted in JDBC
+     * batches. An entry with an unknown client, or left without a free vacancy, fails alone.
+     */
+    @Timed(value = "parking.gate", extraTags = {"operation", "check-in-batch"}, description = "Batched check-in at the gate")
+    @Transactional
+    public List<CheckInResult> checkInAll(List<ClientVacancy> entries) {
+        Map<String, Client> clients = clientService.findAllByCpf(entries.stream()
+                .map(entry -> entry.getClient().getCpf())
+                .collect(Collectors.toSet()));
+        int known = (int) entries.stream().filter(entry -> clients.containsKey(entry.getClient().getCpf())).count();
+
+        List<Vacancy> claimed = vacancyService.findFreeVacancies(known);
+        Iterator<Vacancy> freeVacancies = claimed.iterator();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<CheckInResult> results = new ArrayList<>(entries.size());
+        List<ClientVacancy> parking = new ArrayList<>(entries.size());
+        List<Vacancy> occupied = new ArrayList<>(claimed.size());
+        for (ClientVacancy entry : entries) {
+            Client client = clients.get(entry.getClient().getCpf());
+            if (client == null) {
+                results.add(CheckInResult.failed(new UserNotFoundException(
+                        String.format("Client with cpf=%s not founded", entry.getClient().getCpf()))));
+                continue;
+            }
+            if (!freeVacancies.hasNext()) {
+                results.add(CheckInResult.failed(new EntityNotFoundException("No free vacancies were found.")));
+                continue;
+            }
+
+            Vacancy vacancy = freeVacancies.next();
+            entry.setClient(client);
+            entry.setVacancy(vacancy);
+            if (entry.getEntryDate() == null) {
+                entry.setEntryDate(now);
+            }
+            entry.setReceipt(ParkingUtils.generateReceipt());
+
+            occupied.add(vacancy);
+            parking.add(entry);
+            results.add(CheckInResult.checkedIn(entry));
+        }
+
+        vacancyService.occupy(occupied);
+        clientVacancyService.insertAll(parking);
+        occupied.forEach(vacancy -> eventPublisher.publishEvent(
+                new VacancyStatusChangedEvent(vacancy.getId(), vacancy.getCode(), StatusVacancy.BUSY)));
+
+        return results;
+    }
+
+    @Retryable(label = "check-out", retryFor = OptimisticLockingFailureException.class,
+            maxAttemptsExpression = "${parking.retry.max-attempts:4}",
+            backoff = @Backoff(delayExpression = "${parking.retry.delay:20}",
+                    maxDelayExpression = "${parking.retry.max-delay:200}",
+                    multiplier = 2, random = true),
+            listeners = "parkingRetryListener")
+    @Timed(value = "parking.gate", extraTags = {"operation", "check-out"}, description = "Check-out at the gate")
     @Transactional
     public ClientVacancy checkOut(String receipt) {
         ClientVacancy result = clientVacancyService.findByReceipt(receipt);
 
         LocalDateTime departureDate = LocalDateTime.now();
-        BigDecimal amount = ParkingUtils.calcTotal(result.getEntryDate(), departureDate);
-        result.setAmount(amount);
+        TariffEngine tariff = tariffService.engineFor(result.getVacancy().getCode(), result.getEntryDate());
+        long amountCents = tariff.totalCents(result.getEntryDate().until(departureDate, ChronoUnit.MINUTES));
+        result.setAmount(TariffEngine.toAmount(amountCents));
 
-        long numberOfTimes = clientVacancyService.getTotalTimesOfCompleteVacancy(result.getClient().getCpf());
+        long numberOfTimes = clientService.registerCompletedVisit(result.getClient().getId());
 
-        BigDecimal discount = ParkingUtils.calcDiscount(amount, numberOfTimes);
-        result.setDiscount(discount);
+        long discountCents = tariff.discountCents(amountCents, numberOfTimes);
+        result.setDiscount(TariffEngine.toAmount(discountCents));
 
         result.setDepartureDate(departureDate);
         result.getVacancy().setStatus(StatusVacancy.FREE);
+        vacancyAllocator.release(result.getVacancy().getId());
+        eventPublisher.publishEvent(VacancyStatusChangedEvent.of(result.getVacancy()));
 
         return clientVacancyService.save(result);
     }
@@ -0,0 +1,59 @@
+package com.poc.parkapi.service;
+
+import com.poc.parkapi.repository.TariffRepository;
+import com.poc.parkapi.util.ParkingUtils;
+import com.poc.parkapi.util.TariffEngine;
+import com.poc.parkapi.util.TariffTable;
+import com.poc.parkapi.web.exception.InvalidTariffException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Serves the tariffs of the check-out path from a compiled {@link TariffTable}.
+ * A reload compiles a new table and swaps the reference, so readers never lock and never see a partial table.
+ * When the rows can't be compiled the previous table stays in use.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class TariffService {
+
+    private final TariffRepository tariffRepository;
+
+    private volatile TariffTable table = TariffTable.of(ParkingUtils.DEFAULT_TARIFF);
+
+    public TariffEngine engineFor(String vacancyCode, LocalDateTime entryDate) {
+        return table.engineFor(vacancyCode, entryDate);
+    }
+
+    /**
+     * Compiles the stored tariffs and puts them in use.
+     */
+    public void reload() {
+        TariffTable compiled;
+        try {
+            compiled = TariffTable.compile(tariffRepository.findAll(), ParkingUtils.DEFAULT_TARIFF);
+        } catch (IllegalArgumentException | IllegalStateException ex) {
+            throw new InvalidTariffException(String.format("Tariffs not reloaded, keeping the current ones: %s", ex.getMessage()));
+        }
+        table = compiled;
+        log.info("Tariffs reloaded for {} zones", compiled.zones());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${parking.tariff.reload-interval:60000}",
+            initialDelayString = "${parking.tariff.reload-interval:60000}")
+    public void scheduledReload() {
+        try {
+            reload();
+        } catch (InvalidTariffException ex) {
+            log.error(ex.getMessage());
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package com.poc.parkapi.service;
 
+import com.poc.parkapi.config.SpringCacheConfig;
 import com.poc.parkapi.entity.User;
 import com.poc.parkapi.enums.Role;
+import com.poc.parkapi.repository.NaturalIdLookup;
 import com.poc.parkapi.repository.UserRepository;
 import com.poc.parkapi.web.exception.InvalidPasswordException;
 import com.poc.parkapi.web.exception.UserNotFoundException;
 import com.poc.parkapi.web.exception.UsernameUniqueViolationException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -19,7 +23,9 @@ import java.util.List;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final NaturalIdLookup naturalIdLookup;
     private final PasswordEncoder passwordEncoder;
+    private final CacheManager cacheManager;
 
     @Transactional
     public User save(User user) {
@@ -39,7 +45,7 @@ public class UserService {
 
     @Transactional(readOnly = true)
     public User findByUsername(String username) {
-        return userRepository.findByUsername(username)
+        return naturalIdLookup.find(User.class, username)
                 .orElseThrow(() -> new UserNotFoundException(String.format("User with username=%s not founded", username)));
     }
 
@@ -56,6 +62,11 @@ public class UserService {
         }
 
         foundedUser.setPassword(passwordEncoder.encode(newPassword));
+
+        Cache userDetails = cacheManager.getCache(SpringCacheConfig.USER_DETAILS_CACHE);
+        if (userDetails != null) {
+            userDetails.evict(foundedUser.getUsername());
+        }
     }
 
     @Transactional(readOnly = true)
@@ -65,7 +76,8 @@ public class UserService {
 
     @Transactional(readOnly = true)
     public Role findRoleByUsername(String username) {
-        return userRepository.findRoleByUsername(username)
+        // served from the second-level cache once the user was loaded, unlike a query on the role column
+        return naturalIdLookup.find(User.class, username).map(User::getRole)
                 .orElseThrow(() -> new UserNotFoundException(String.format("User role with username=%s not founded", username)));
     }
 }
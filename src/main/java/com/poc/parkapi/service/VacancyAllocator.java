@@ -0,0 +1,98 @@
+package com.poc.parkapi.service;
+
+import com.poc.parkapi.repository.VacancyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static com.poc.parkapi.enums.StatusVacancy.FREE;
+
+/**
+ * In-process pool of FREE vacancy ids, so check-in doesn't need to scan the vacancies table.
+ * The database row stays the source of truth: an id handed out here must still be checked
+ * against its row, and stale ids are simply dropped by the caller.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class VacancyAllocator {
+
+    private final VacancyRepository vacancyRepository;
+
+    private final Queue<Long> freeVacancies = new ConcurrentLinkedQueue<>();
+
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<Long> ids = vacancyRepository.findAllIdsByStatus(FREE);
+
+        freeVacancies.clear();
+        queued.clear();
+        ids.forEach(this::offer);
+
+        log.info("Vacancy allocator loaded with {} free vacancies", ids.size());
+    }
+
+    /**
+     * Hands out a candidate free vacancy id, or null when the pool is empty.
+     * If the current transaction doesn't commit, the id goes back to the pool.
+     */
+    public Long acquire() {
+        Long id = freeVacancies.poll();
+        if (id == null) {
+            return null;
+        }
+        queued.remove(id);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        offer(id);
+                    }
+                }
+            });
+        }
+
+        return id;
+    }
+
+    /**
+     * Gives a vacancy back to the pool once the current transaction commits.
+     */
+    public void release(Long id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    offer(id);
+                }
+            });
+            return;
+        }
+
+        offer(id);
+    }
+
+    public int size() {
+        return queued.size();
+    }
+
+    private void offer(Long id) {
+        if (queued.add(id)) {
+            freeVacancies.offer(id);
+        }
+    }
+}
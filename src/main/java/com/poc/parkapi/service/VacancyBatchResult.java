@@ -0,0 +1,21 @@
+package com.poc.parkapi.service;
+
+import com.poc.parkapi.entity.Vacancy;
+import com.poc.parkapi.web.exception.CodeUniqueViolationException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of a bulk vacancy creation: what was inserted, and why each remaining code was not.
+ */
+@Getter
+@RequiredArgsConstructor
+public class VacancyBatchResult {
+
+    private final List<Vacancy> created;
+
+    private final Map<String, CodeUniqueViolationException> conflicts;
+}
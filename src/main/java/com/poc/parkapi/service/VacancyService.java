@@ -1,40 +1,170 @@
 package com.poc.parkapi.service;
 
 import com.poc.parkapi.entity.Vacancy;
+import com.poc.parkapi.enums.StatusVacancy;
+import com.poc.parkapi.event.VacancyStatusChangedEvent;
+import com.poc.parkapi.repository.NaturalIdLookup;
 import com.poc.parkapi.repository.VacancyRepository;
 import com.poc.parkapi.web.exception.CodeUniqueViolationException;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.poc.parkapi.enums.StatusVacancy.BUSY;
 import static com.poc.parkapi.enums.StatusVacancy.FREE;
 
 @RequiredArgsConstructor
 @Service
 public class VacancyService {
 
+    /**
+     * Keeps the 'in' lists of the bulk lookups well below database parameter limits.
+     */
+    private static final int LOOKUP_CHUNK = 1000;
+
     private final VacancyRepository vacancyRepository;
 
+    private final NaturalIdLookup naturalIdLookup;
+
+    private final VacancyAllocator vacancyAllocator;
+
+    private final ApplicationEventPublisher eventPublisher;
+
     @Transactional
     public Vacancy save(Vacancy vacancy) {
         try {
-            return vacancyRepository.save(vacancy);
+            Vacancy saved = vacancyRepository.save(vacancy);
+            if (saved.getStatus() == FREE) {
+                vacancyAllocator.release(saved.getId());
+            }
+            eventPublisher.publishEvent(VacancyStatusChangedEvent.of(saved));
+            return saved;
         } catch (DataIntegrityViolationException ex) {
-            throw new CodeUniqueViolationException(String.format("Vacancy with code '%s' already registered", vacancy.getCode()));
+            throw codeUniqueViolation(vacancy.getCode());
         }
     }
 
+    /**
+     * Creates many vacancies in a few JDBC batches. Codes already registered are reported as conflicts
+     * instead of failing the others; repeated codes in the request are created once.
+     */
+    @Timed(value = "parking.vacancy.bulk-create", description = "Bulk creation of vacancies")
+    @Transactional
+    public VacancyBatchResult saveAll(Collection<String> codes, StatusVacancy status) {
+        Set<String> requested = new LinkedHashSet<>(codes);
+
+        Map<String, CodeUniqueViolationException> conflicts = new LinkedHashMap<>();
+        for (List<String> chunk : chunks(requested)) {
+            vacancyRepository.findAllCodesByCodeIn(chunk).forEach(code -> conflicts.put(code, codeUniqueViolation(code)));
+        }
+
+        List<Vacancy> vacancies = new ArrayList<>();
+        for (String code : requested) {
+            if (!conflicts.containsKey(code)) {
+                Vacancy vacancy = new Vacancy();
+                vacancy.setCode(code);
+                vacancy.setStatus(status);
+                vacancies.add(vacancy);
+            }
+        }
+
+        try {
+            vacancyRepository.insertAll(vacancies);
+        } catch (DataIntegrityViolationException ex) {
+            // a code was registered concurrently, after the lookup above
+            throw new CodeUniqueViolationException("Vacancies registered concurrently, try again");
+        }
+
+        List<Vacancy> created = new ArrayList<>(vacancies.size());
+        for (List<String> chunk : chunks(vacancies.stream().map(Vacancy::getCode).toList())) {
+            created.addAll(vacancyRepository.findAllByCodeIn(chunk));
+        }
+        created.sort(Comparator.comparing(Vacancy::getCode));
+
+        for (Vacancy vacancy : created) {
+            if (vacancy.getStatus() == FREE) {
+                vacancyAllocator.release(vacancy.getId());
+            }
+            eventPublisher.publishEvent(VacancyStatusChangedEvent.of(vacancy));
+        }
+        return new VacancyBatchResult(created, conflicts);
+    }
+
     @Transactional(readOnly = true)
     public Vacancy findByCode(String code) {
-        return vacancyRepository.findByCode(code)
+        return naturalIdLookup.find(Vacancy.class, code)
                 .orElseThrow(() -> new EntityNotFoundException(String.format("Vacancy with code=%s not founded", code)));
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Claims a free vacancy with a row lock that skips rows already locked by other check-ins,
+     * so concurrent gates never block on, or get handed, the same vacancy.
+     */
+    @Timed(value = "parking.vacancy.claim", description = "Claim of a free vacancy on check-in")
+    @Transactional
     public Vacancy findByFreeVacancy() {
-        return vacancyRepository.findFirstByStatus(FREE)
+        Long id;
+        while ((id = vacancyAllocator.acquire()) != null) {
+            Optional<Vacancy> vacancy = vacancyRepository.findByIdAndStatus(id, FREE);
+            if (vacancy.isPresent()) {
+                return vacancy.get();
+            }
+        }
+
+        return vacancyRepository.findFirstByStatusOrderByIdAsc(FREE)
                 .orElseThrow(() -> new EntityNotFoundException("No free vacancies were found."));
     }
+
+    /**
+     * Claims up to count free vacancies in a single statement, with the same row locks as
+     * {@link #findByFreeVacancy()}. Fewer are returned when the lot is almost full.
+     */
+    @Timed(value = "parking.vacancy.claim-batch", description = "Claim of free vacancies on a batched check-in")
+    @Transactional
+    public List<Vacancy> findFreeVacancies(int count) {
+        if (count == 0) {
+            return List.of();
+        }
+        return vacancyRepository.findByStatusOrderByIdAsc(FREE, Limit.of(count));
+    }
+
+    /**
+     * Marks claimed vacancies as busy with one update. Clears the persistence context.
+     */
+    @Transactional
+    public void occupy(Collection<Vacancy> vacancies) {
+        if (vacancies.isEmpty()) {
+            return;
+        }
+        vacancyRepository.updateStatusByIdIn(vacancies.stream().map(Vacancy::getId).toList(), BUSY, LocalDateTime.now());
+    }
+
+    private static CodeUniqueViolationException codeUniqueViolation(String code) {
+        return new CodeUniqueViolationException(String.format("Vacancy with code '%s' already registered", code));
+    }
+
+    private static List<List<String>> chunks(Collection<String> codes) {
+        List<String> list = List.copyOf(codes);
+        List<List<String>> chunks = new ArrayList<>();
+        for (int i = 0; i < list.size(); i += LOOKUP_CHUNK) {
+            chunks.add(list.subList(i, Math.min(i + LOOKUP_CHUNK, list.size())));
+        }
+        return chunks;
+    }
 }
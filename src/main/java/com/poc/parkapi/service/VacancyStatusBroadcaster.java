@@ -0,0 +1,53 @@
+package com.poc.parkapi.service;
+
+import com.poc.parkapi.event.VacancyStatusChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Fans committed vacancy status changes out to every open stream.
+ * <p>
+ * Each subscriber gets its own bounded buffer, so a slow client never holds back the others or the
+ * gates. A subscriber that falls further behind than the buffer is disconnected instead of silently
+ * missing changes; on reconnect it receives a fresh snapshot. Every emitted change is numbered in
+ * emission order, so streams can tell changes apart even when the same vacancy changes twice.
+ */
+@Slf4j
+@Component
+public class VacancyStatusBroadcaster {
+
+    private final Sinks.Many<VacancyStatusChangedEvent> sink = Sinks.many().multicast().directBestEffort();
+
+    private final int bufferSize;
+
+    private long sequence;
+
+    public VacancyStatusBroadcaster(@Value("${parking.stream.buffer-size:256}") int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Only committed changes are published; emission is serialized because gates commit concurrently.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void publish(VacancyStatusChangedEvent event) {
+        sink.tryEmitNext(event.withSequence(++sequence));
+    }
+
+    public Flux<VacancyStatusChangedEvent> changes() {
+        return sink.asFlux()
+                .onBackpressureBuffer(bufferSize,
+                        event -> log.debug("Vacancy stream subscriber too slow, disconnecting at {}", event),
+                        BufferOverflowStrategy.ERROR);
+    }
+
+    public int subscribers() {
+        return sink.currentSubscriberCount();
+    }
+}
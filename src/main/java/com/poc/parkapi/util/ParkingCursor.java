@@ -0,0 +1,41 @@
+package com.poc.parkapi.util;
+
+import com.poc.parkapi.web.exception.InvalidCursorException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last parking returned by a keyset page, ordered by (entryDate, id).
+ * Clients only see it as an opaque url safe token.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ParkingCursor {
+
+    private static final String SEPARATOR = ",";
+
+    private final LocalDateTime entryDate;
+
+    private final Long id;
+
+    public String encode() {
+        String value = entryDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ParkingCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            return new ParkingCursor(LocalDateTime.parse(value.substring(0, separator)),
+                    Long.valueOf(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException ex) {
+            throw new InvalidCursorException(String.format("Invalid cursor '%s'", cursor));
+        }
+    }
+}
@@ -11,47 +11,38 @@ import java.time.temporal.ChronoUnit;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ParkingUtils {
 
-    private static final double FIRST_15_MINUTES = 5.00;
-    private static final double FIRST_60_MINUTES = 9.25;
-    private static final double ADDITIONAL_15_MINUTES = 1.75;
-    private static final double DISCOUNT_PERCENT = 0.30;
+    private static final long FIRST_15_MINUTES_CENTS = 500;
+    private static final long FIRST_60_MINUTES_CENTS = 925;
+    private static final long ADDITIONAL_15_MINUTES_CENTS = 175;
+    private static final long DISCOUNT_PERCENT = 30;
 
+    /**
+     * Rates used where no tariff is configured.
+     */
+    public static final TariffEngine DEFAULT_TARIFF = new TariffEngine(FIRST_15_MINUTES_CENTS, FIRST_60_MINUTES_CENTS,
+            ADDITIONAL_15_MINUTES_CENTS, DISCOUNT_PERCENT);
+
+    private static final ReceiptGenerator RECEIPT_GENERATOR = new ReceiptGenerator(ReceiptGenerator.nodeIdFromEnvironment());
 
     public static String generateReceipt() {
-        LocalDateTime date = LocalDateTime.now();
-        String receipt = date.toString().substring(0, 19);
+        return RECEIPT_GENERATOR.next();
+    }
+
+    public static long calcTotalCents(LocalDateTime checkIn, LocalDateTime checkOut) {
+        return DEFAULT_TARIFF.totalCents(checkIn.until(checkOut, ChronoUnit.MINUTES));
+    }
 
-        return receipt.replace("-", "")
-                .replace(":", "")
-                .replace("T", "-");
+    public static long calcDiscountCents(long amountCents, long numberOfTimes) {
+        return DEFAULT_TARIFF.discountCents(amountCents, numberOfTimes);
     }
 
     public static BigDecimal calcTotal(LocalDateTime checkIn, LocalDateTime checkOut) {
-        long minutes = checkIn.until(checkOut, ChronoUnit.MINUTES);
-        double total = 0.0;
-
-        if (minutes <= 15) {
-            total = FIRST_15_MINUTES;
-        } else if (minutes <= 60) {
-            total = FIRST_60_MINUTES;
-        } else {
-            long additionalMinutes = minutes - 60;
-            double totalParts = ((double) additionalMinutes / 15);
-            if (totalParts > (int) totalParts) {
-                total += FIRST_60_MINUTES + (ADDITIONAL_15_MINUTES * ((int) totalParts + 1));
-            } else {
-                total += FIRST_60_MINUTES + (ADDITIONAL_15_MINUTES * (int) totalParts);
-            }
-        }
-
-        return new BigDecimal(total).setScale(2, RoundingMode.HALF_EVEN);
+        return TariffEngine.toAmount(calcTotalCents(checkIn, checkOut));
     }
 
     public static BigDecimal calcDiscount(BigDecimal amount, long numberOfTimes) {
-        BigDecimal discount = ((numberOfTimes > 0) && (numberOfTimes % 10 == 0))
-                ? amount.multiply(new BigDecimal(DISCOUNT_PERCENT))
-                : new BigDecimal(0);
-        return discount.setScale(2, RoundingMode.HALF_EVEN);
+        long amountCents = amount.setScale(2, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+        return TariffEngine.toAmount(calcDiscountCents(amountCents, numberOfTimes));
     }
 
 }
@@ -0,0 +1,79 @@
+package com.poc.parkapi.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Generates unique, monotonic receipt numbers without locks.
+ * <p>
+ * Each receipt is a 63 bit number made of the milliseconds since 2023-01-01 (41 bits), the node id (10 bits)
+ * and a per-millisecond sequence (12 bits), written as 13 fixed-width base 36 characters, so receipts also
+ * sort in generation order. When a node runs out of sequence in a millisecond it borrows the next one
+ * instead of waiting, which also keeps receipts monotonic if the wall clock goes backwards.
+ */
+public final class ReceiptGenerator {
+
+    public static final int LENGTH = 13;
+
+    public static final int MAX_NODE_ID = 1023;
+
+    private static final long EPOCH = 1672531200000L;
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final char[] DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+
+    private final long nodeId;
+
+    private final LongSupplier clock;
+
+    /**
+     * Last issued (elapsed millis << SEQUENCE_BITS | sequence).
+     */
+    private final AtomicLong state = new AtomicLong();
+
+    public ReceiptGenerator(int nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    public ReceiptGenerator(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException(String.format("Node id must be between 0 and %s", MAX_NODE_ID));
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    /**
+     * Node id from the 'parking.node-id' system property or the PARKING_NODE_ID environment variable.
+     * Every node sharing a database must have a different one.
+     */
+    public static int nodeIdFromEnvironment() {
+        String value = System.getProperty("parking.node-id", System.getenv("PARKING_NODE_ID"));
+        return value == null || value.isBlank() ? 0 : Integer.parseInt(value.trim());
+    }
+
+    public String next() {
+        long current;
+        long next;
+        do {
+            current = state.get();
+            next = Math.max(current + 1, (clock.getAsLong() - EPOCH) << SEQUENCE_BITS);
+        } while (!state.compareAndSet(current, next));
+
+        long id = (next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS)
+                | nodeId << SEQUENCE_BITS
+                | next & SEQUENCE_MASK;
+
+        return encode(id);
+    }
+
+    private static String encode(long id) {
+        char[] chars = new char[LENGTH];
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            chars[i] = DIGITS[(int) (id % 36)];
+            id /= 36;
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,90 @@
+package com.poc.parkapi.util;
+
+import java.math.BigDecimal;
+
+/**
+ * Parking prices in integer cents.
+ * <p>
+ * The first 15 minutes and the first hour have fixed prices, then every started 15 minutes adds the additional rate.
+ * Prices of the first {@link #TABLE_DAYS} days are precomputed per 15 minute bracket, so a check-out is a table
+ * lookup; longer stays fall back to the same formula. Amounts only become a {@link BigDecimal} at the API boundary.
+ */
+public final class TariffEngine {
+
+    public static final int TABLE_DAYS = 7;
+
+    private static final long BRACKET_MINUTES = 15;
+    private static final long FIRST_HOUR_MINUTES = 60;
+    private static final int CENTS_SCALE = 2;
+
+    private final long first15MinutesCents;
+
+    private final long first60MinutesCents;
+
+    private final long additional15MinutesCents;
+
+    private final long discountPercent;
+
+    /**
+     * Price per bracket: 0 is up to 15 minutes, 1 up to an hour and n every further started 15 minutes.
+     */
+    private final long[] bracketCents;
+
+    public TariffEngine(long first15MinutesCents, long first60MinutesCents, long additional15MinutesCents, long discountPercent) {
+        if (first15MinutesCents < 0 || first60MinutesCents < 0 || additional15MinutesCents < 0) {
+            throw new IllegalArgumentException("Rates must not be negative");
+        }
+        if (discountPercent < 0 || discountPercent > 100) {
+            throw new IllegalArgumentException("Discount percent must be between 0 and 100");
+        }
+        this.first15MinutesCents = first15MinutesCents;
+        this.first60MinutesCents = first60MinutesCents;
+        this.additional15MinutesCents = additional15MinutesCents;
+        this.discountPercent = discountPercent;
+
+        this.bracketCents = new long[(int) (TABLE_DAYS * 24 * 60 / BRACKET_MINUTES) + 1];
+        for (int bracket = 0; bracket < bracketCents.length; bracket++) {
+            bracketCents[bracket] = priceOf(bracket);
+        }
+    }
+
+    /**
+     * Price of a stay of the given minutes. Stays up to 15 minutes, including negative ones caused by clock
+     * adjustments, pay the first 15 minutes rate.
+     */
+    public long totalCents(long minutes) {
+        long bracket = bracketOf(minutes);
+        return bracket < bracketCents.length ? bracketCents[(int) bracket] : priceOf(bracket);
+    }
+
+    /**
+     * Loyalty discount of an amount, granted on every 10th completed visit. Half cents are rounded down.
+     */
+    public long discountCents(long amountCents, long numberOfTimes) {
+        if (numberOfTimes <= 0 || numberOfTimes % 10 != 0) {
+            return 0;
+        }
+        return (amountCents * discountPercent + 49) / 100;
+    }
+
+    public static BigDecimal toAmount(long cents) {
+        return BigDecimal.valueOf(cents, CENTS_SCALE);
+    }
+
+    private static long bracketOf(long minutes) {
+        if (minutes <= BRACKET_MINUTES) {
+            return 0;
+        }
+        if (minutes <= FIRST_HOUR_MINUTES) {
+            return 1;
+        }
+        return 1 + (minutes - FIRST_HOUR_MINUTES + BRACKET_MINUTES - 1) / BRACKET_MINUTES;
+    }
+
+    private long priceOf(long bracket) {
+        if (bracket == 0) {
+            return first15MinutesCents;
+        }
+        return first60MinutesCents + additional15MinutesCents * (bracket - 1);
+    }
+}
@@ -0,0 +1,108 @@
+package com.poc.parkapi.util;
+
+import com.poc.parkapi.entity.Tariff;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable lookup of the tariff engine of a zone for every minute of the day.
+ * <p>
+ * Minutes a zone doesn't price fall back to the {@link Tariff#DEFAULT_ZONE} rows, then to the built-in rates.
+ * Built once per reload and then only read, so it can be shared between threads without locking.
+ */
+public final class TariffTable {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final Map<String, TariffEngine[]> zones;
+
+    private final TariffEngine[] defaults;
+
+    private TariffTable(Map<String, TariffEngine[]> zones, TariffEngine[] defaults) {
+        this.zones = zones;
+        this.defaults = defaults;
+    }
+
+    public static TariffTable of(TariffEngine fallback) {
+        return compile(List.of(), fallback);
+    }
+
+    /**
+     * Compiles the tariff rows, rejecting overlapping windows of the same zone.
+     */
+    public static TariffTable compile(List<Tariff> tariffs, TariffEngine fallback) {
+        Map<String, TariffEngine[]> minutesByZone = new HashMap<>();
+
+        for (Tariff tariff : tariffs) {
+            TariffEngine engine = new TariffEngine(tariff.getFirst15MinutesCents(), tariff.getFirst60MinutesCents(),
+                    tariff.getAdditional15MinutesCents(), tariff.getDiscountPercent());
+            TariffEngine[] minutes = minutesByZone.computeIfAbsent(normalize(tariff.getZone()), zone -> new TariffEngine[MINUTES_PER_DAY]);
+
+            int start = minuteOfDay(tariff.getStartTime());
+            int length = Math.floorMod(minuteOfDay(tariff.getEndTime()) - start - 1, MINUTES_PER_DAY) + 1;
+            for (int i = 0; i < length; i++) {
+                int minute = (start + i) % MINUTES_PER_DAY;
+                if (minutes[minute] != null) {
+                    throw new IllegalStateException(String.format("Tariff %s of zone '%s' overlaps another one at %s",
+                            tariff.getId(), tariff.getZone(), LocalTime.of(minute / 60, minute % 60)));
+                }
+                minutes[minute] = engine;
+            }
+        }
+
+        TariffEngine[] defaults = minutesByZone.getOrDefault(Tariff.DEFAULT_ZONE, new TariffEngine[MINUTES_PER_DAY]);
+        fill(defaults, fallback);
+        minutesByZone.remove(Tariff.DEFAULT_ZONE);
+        minutesByZone.values().forEach(minutes -> fill(minutes, defaults));
+
+        return new TariffTable(Map.copyOf(minutesByZone), defaults);
+    }
+
+    /**
+     * Engine pricing a check-in at the given time on a vacancy of the given code.
+     */
+    public TariffEngine engineFor(String vacancyCode, LocalDateTime entryDate) {
+        TariffEngine[] minutes = zones.getOrDefault(zoneOf(vacancyCode), defaults);
+        return minutes[entryDate.getHour() * 60 + entryDate.getMinute()];
+    }
+
+    public int zones() {
+        return zones.size();
+    }
+
+    /**
+     * Zone of a vacancy code: the part before the '-', like 'A' for 'A-01'.
+     */
+    public static String zoneOf(String vacancyCode) {
+        int separator = vacancyCode.indexOf('-');
+        return normalize(separator < 0 ? vacancyCode : vacancyCode.substring(0, separator));
+    }
+
+    private static String normalize(String zone) {
+        return zone.trim().toUpperCase();
+    }
+
+    private static int minuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static void fill(TariffEngine[] minutes, TariffEngine fallback) {
+        for (int i = 0; i < minutes.length; i++) {
+            if (minutes[i] == null) {
+                minutes[i] = fallback;
+            }
+        }
+    }
+
+    private static void fill(TariffEngine[] minutes, TariffEngine[] fallback) {
+        for (int i = 0; i < minutes.length; i++) {
+            if (minutes[i] == null) {
+                minutes[i] = fallback[i];
+            }
+        }
+    }
+}
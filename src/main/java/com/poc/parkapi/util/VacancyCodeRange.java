@@ -0,0 +1,43 @@
+package com.poc.parkapi.util;
+
+import com.poc.parkapi.web.exception.InvalidVacancyRangeException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Expands a range of vacancy codes such as 'A-01..C-20' into every row letter and slot number in between:
+ * A-01..A-20, B-01..B-20 and C-01..C-20.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VacancyCodeRange {
+
+    private static final Pattern RANGE = Pattern.compile("([A-Z])-(\\d{2})\\.\\.([A-Z])-(\\d{2})");
+
+    public static List<String> expand(String range) {
+        Matcher matcher = RANGE.matcher(range.trim());
+        if (!matcher.matches()) {
+            throw new InvalidVacancyRangeException(String.format("Invalid vacancy range '%s', expected like 'A-01..Z-99'", range));
+        }
+
+        char firstRow = matcher.group(1).charAt(0);
+        char lastRow = matcher.group(3).charAt(0);
+        int firstSlot = Integer.parseInt(matcher.group(2));
+        int lastSlot = Integer.parseInt(matcher.group(4));
+        if (firstRow > lastRow || firstSlot > lastSlot) {
+            throw new InvalidVacancyRangeException(String.format("Invalid vacancy range '%s', start is after end", range));
+        }
+
+        List<String> codes = new ArrayList<>((lastRow - firstRow + 1) * (lastSlot - firstSlot + 1));
+        for (char row = firstRow; row <= lastRow; row++) {
+            for (int slot = firstSlot; slot <= lastSlot; slot++) {
+                codes.add(String.format("%c-%02d", row, slot));
+            }
+        }
+        return codes;
+    }
+}
@@ -8,7 +8,9 @@ import com.poc.parkapi.service.UserService;
 import com.poc.parkapi.web.dto.client.CreateClientDto;
 import com.poc.parkapi.web.dto.client.ClientResponseDto;
 import com.poc.parkapi.web.dto.mapper.ClientMapper;
+import com.poc.parkapi.web.dto.mapper.DtoMappingTimer;
 import com.poc.parkapi.web.dto.mapper.PageableMapper;
+import com.poc.parkapi.web.dto.pageable.PageCount;
 import com.poc.parkapi.web.dto.pageable.PageableDto;
 import com.poc.parkapi.web.dto.user.UserResponseDto;
 import com.poc.parkapi.web.exception.ErrorMessage;
@@ -26,6 +28,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -43,6 +46,7 @@ public class ClientController {
 
     private final ClientService clientService;
     private final UserService userService;
+    private final DtoMappingTimer dtoMappingTimer;
 
     @Operation(
             summary = "Create a new client",
@@ -92,7 +96,7 @@ public class ClientController {
 
         clientService.save(client);
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(ClientMapper.toResponseDto(client));
+        return ResponseEntity.status(HttpStatus.CREATED).body(dtoMappingTimer.record("client", () -> ClientMapper.toResponseDto(client)));
     }
 
     @Operation(
@@ -131,7 +135,7 @@ public class ClientController {
     public ResponseEntity<ClientResponseDto> getClientById(@PathVariable("id") Long id) {
         Client result = clientService.findById(id);
 
-        return ResponseEntity.status(HttpStatus.OK).body(ClientMapper.toResponseDto(result));
+        return ResponseEntity.status(HttpStatus.OK).body(dtoMappingTimer.record("client", () -> ClientMapper.toResponseDto(result)));
     }
 
     @Operation(
@@ -162,7 +166,7 @@ public class ClientController {
     public ResponseEntity<ClientResponseDto> getDetails(@AuthenticationPrincipal JwtUserDetails userDetails) {
         Client result = clientService.findByUserId(userDetails.getId());
 
-        return ResponseEntity.status(HttpStatus.OK).body(ClientMapper.toResponseDto(result));
+        return ResponseEntity.status(HttpStatus.OK).body(dtoMappingTimer.record("client", () -> ClientMapper.toResponseDto(result)));
     }
 
     @Operation(
@@ -192,6 +196,18 @@ public class ClientController {
                                     )
                             )
                     ),
+                    @Parameter(
+                            in = ParameterIn.QUERY,
+                            name = "count",
+                            content = @Content(
+                                    schema = @Schema(
+                                            type = "string",
+                                            allowableValues = {"EXACT", "NONE", "ESTIMATE"},
+                                            defaultValue = "EXACT",
+                                            description = "Totals of the page: counted, omitted (only 'hasNext') or estimated"
+                                    )
+                            )
+                    ),
                     @Parameter(
                             in = ParameterIn.QUERY,
                             name = "sort",
@@ -228,10 +244,23 @@ public class ClientController {
     )
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping
-    public ResponseEntity<PageableDto> getAllClients(@Parameter(hidden = true) @PageableDefault(size = 5, sort = {"name"}) Pageable pageable) {
-        Page<ClientProjection> result = clientService.findAll(pageable);
+    public ResponseEntity<PageableDto> getAllClients(@Parameter(hidden = true) @RequestParam(value = "count", defaultValue = "EXACT") PageCount count,
+                                                     @Parameter(hidden = true) @PageableDefault(size = 5, sort = {"name"}) Pageable pageable) {
+        if (count == PageCount.EXACT) {
+            Page<ClientProjection> result = clientService.findAll(pageable);
+
+            return ResponseEntity.status(HttpStatus.OK).body(dtoMappingTimer.record("page", () -> PageableMapper.toDto(result)));
+        }
+
+        Slice<ClientProjection> result = clientService.findSlice(pageable);
+
+        // the estimate is read before the timer starts, so only the mapping itself is timed
+        long estimatedTotal = count == PageCount.ESTIMATE ? clientService.estimateCount() : 0;
+        PageableDto dto = dtoMappingTimer.record("page", () -> count == PageCount.ESTIMATE
+                ? PageableMapper.toDto(result, estimatedTotal)
+                : PageableMapper.toDto(result));
 
-        return ResponseEntity.status(HttpStatus.OK).body(PageableMapper.toDto(result));
+        return ResponseEntity.status(HttpStatus.OK).body(dto);
     }
 
 }
@@ -0,0 +1,274 @@
+package com.poc.parkapi.web.controller;
+
+import com.poc.parkapi.enums.StatusVacancy;
+import com.poc.parkapi.jwt.JwtUserDetails;
+import com.poc.parkapi.service.DashboardService;
+import com.poc.parkapi.web.dto.mapper.ClientVacancyMapper;
+import com.poc.parkapi.web.dto.mapper.DtoMappingTimer;
+import com.poc.parkapi.web.dto.mapper.VacancyMapper;
+import com.poc.parkapi.web.dto.parking.ParkingResponseDto;
+import com.poc.parkapi.web.dto.vacancy.OccupancyResponseDto;
+import com.poc.parkapi.web.dto.vacancy.VacancyResponseDto;
+import com.poc.parkapi.web.exception.ErrorMessage;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Read-only endpoints for the dashboards. They are served from R2DBC, so no request thread is held while
+ * the database answers. Lists are returned as a JSON array, or streamed one object per line when the
+ * client accepts application/x-ndjson.
+ */
+@Tag(name = "Dashboard", description = "Contains the read-only operations used by the dashboards")
+@RestController
+@RequestMapping("/api/v1/dashboard")
+public class DashboardController {
+
+    private static final int MAX_SIZE = 100;
+
+    private final DashboardService dashboardService;
+
+    private final DtoMappingTimer dtoMappingTimer;
+
+    private final Duration heartbeat;
+
+    public DashboardController(DashboardService dashboardService, DtoMappingTimer dtoMappingTimer,
+                               @Value("${parking.stream.heartbeat:15s}") Duration heartbeat) {
+        this.dashboardService = dashboardService;
+        this.dtoMappingTimer = dtoMappingTimer;
+        this.heartbeat = heartbeat;
+    }
+
+    @Operation(
+            summary = "Get the lot occupancy",
+            security = @SecurityRequirement(name = "security"),
+            description = "Resource to count free and busy vacancies. Only to ADMIN",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Occupancy counted with success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = OccupancyResponseDto.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "Resource only allowed to ADMIN profile",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class)
+                            )
+                    )
+            }
+    )
+    @GetMapping("/occupancy")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Mono<OccupancyResponseDto> getOccupancy() {
+        return Mono.zip(dashboardService.countByStatus(StatusVacancy.FREE), dashboardService.countByStatus(StatusVacancy.BUSY))
+                .map(counts -> new OccupancyResponseDto(counts.getT1(), counts.getT2(), counts.getT1() + counts.getT2()));
+    }
+
+    @Operation(
+            summary = "Get vacancies by status",
+            security = @SecurityRequirement(name = "security"),
+            description = "Resource to list the vacancies with a status, ordered by code. Only to ADMIN",
+            parameters = {
+                    @Parameter(
+                            in = ParameterIn.QUERY,
+                            name = "status",
+                            content = @Content(
+                                    schema = @Schema(
+                                            type = "string",
+                                            allowableValues = {"FREE", "BUSY"},
+                                            defaultValue = "FREE",
+                                            description = "Vacancy status"
+                                    )
+                            )
+                    )
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Vacancies listed with success",
+                            content = {
+                                    @Content(
+                                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                            array = @ArraySchema(schema = @Schema(implementation = VacancyResponseDto.class))
+                                    ),
+                                    @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE)
+                            }
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "Resource only allowed to ADMIN profile",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class)
+                            )
+                    )
+            }
+    )
+    @GetMapping("/vacancies")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Flux<VacancyResponseDto> getVacancies(@RequestParam(value = "status", defaultValue = "FREE") StatusVacancy status) {
+        return dashboardService.findAllByStatus(status)
+                .map(vacancy -> dtoMappingTimer.record("vacancy", () -> VacancyMapper.toDto(vacancy)));
+    }
+
+    @Operation(
+            summary = "Stream vacancy status changes",
+            security = @SecurityRequirement(name = "security"),
+            description = "Resource to follow the lot live. Sends every vacancy as a 'snapshot' event, then a " +
+                    "'change' event each time a vacancy is created, checked in or checked out. Change events carry an " +
+                    "increasing id, snapshot events carry none. A client that can not keep up is disconnected and gets a new snapshot when it reconnects. Only to ADMIN",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Stream opened with success",
+                            content = @Content(
+                                    mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                                    schema = @Schema(implementation = VacancyResponseDto.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "Resource only allowed to ADMIN profile",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class)
+                            )
+                    )
+            }
+    )
+    @GetMapping(value = "/vacancies/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public Flux<ServerSentEvent<VacancyResponseDto>> streamVacancies() {
+        Flux<ServerSentEvent<VacancyResponseDto>> snapshot = dashboardService.findAllVacancies()
+                .map(vacancy -> toEvent("snapshot", null, dtoMappingTimer.record("vacancy", () -> VacancyMapper.toDto(vacancy))));
+        Flux<ServerSentEvent<VacancyResponseDto>> changes = dashboardService.vacancyStatusChanges()
+                .map(change -> toEvent("change", String.valueOf(change.getSequence()),
+                        dtoMappingTimer.record("vacancy", () -> VacancyMapper.toDto(change))));
+        Flux<ServerSentEvent<VacancyResponseDto>> heartbeats = Flux.interval(heartbeat)
+                .map(tick -> ServerSentEvent.<VacancyResponseDto>builder().comment("heartbeat").build());
+
+        // mergeSequential subscribes to the changes before the snapshot is read and holds them until it ends,
+        // so nothing committed in between is lost
+        return Flux.mergeSequential(snapshot, changes).mergeWith(heartbeats);
+    }
+
+    @Operation(
+            summary = "Get the latest parking by cpf",
+            security = @SecurityRequirement(name = "security"),
+            description = "Resource to get the most recent parking of a client, newest first. Only to ADMIN",
+            parameters = {
+                    @Parameter(
+                            in = ParameterIn.PATH,
+                            description = "Client CPF",
+                            name = "cpf",
+                            required = true
+                    ),
+                    @Parameter(
+                            in = ParameterIn.QUERY,
+                            name = "size",
+                            content = @Content(schema = @Schema(type = "integer", defaultValue = "20", maximum = "100")),
+                            description = "Maximum number of parking returned"
+                    )
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Parking listed with success",
+                            content = {
+                                    @Content(
+                                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                            array = @ArraySchema(schema = @Schema(implementation = ParkingResponseDto.class))
+                                    ),
+                                    @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE)
+                            }
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "Resource only allowed to ADMIN profile",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class)
+                            )
+                    )
+            }
+    )
+    @GetMapping("/parking/cpf/{cpf}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Flux<ParkingResponseDto> getLatestParkingByCpf(@PathVariable("cpf") String cpf,
+                                                          @RequestParam(value = "size", defaultValue = "20") int size) {
+        return dashboardService.findLatestByClientCpf(cpf, toSize(size))
+                .map(parking -> dtoMappingTimer.record("parking", () -> ClientVacancyMapper.toDto(parking)));
+    }
+
+    @Operation(
+            summary = "Get the latest parking from client",
+            security = @SecurityRequirement(name = "security"),
+            description = "Resource to get the most recent parking of the logged client, newest first. Only to CLIENT",
+            parameters = {
+                    @Parameter(
+                            in = ParameterIn.QUERY,
+                            name = "size",
+                            content = @Content(schema = @Schema(type = "integer", defaultValue = "20", maximum = "100")),
+                            description = "Maximum number of parking returned"
+                    )
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Parking listed with success",
+                            content = {
+                                    @Content(
+                                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                            array = @ArraySchema(schema = @Schema(implementation = ParkingResponseDto.class))
+                                    ),
+                                    @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE)
+                            }
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "Resource only allowed to CLIENT profile",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class)
+                            )
+                    )
+            }
+    )
+    @GetMapping("/parking")
+    @PreAuthorize("hasRole('CLIENT')")
+    public Flux<ParkingResponseDto> getLatestParkingFromClient(@AuthenticationPrincipal JwtUserDetails userDetails,
+                                                               @RequestParam(value = "size", defaultValue = "20") int size) {
+        return dashboardService.findLatestFromUserId(userDetails.getId(), toSize(size))
+                .map(parking -> dtoMappingTimer.record("parking", () -> ClientVacancyMapper.toDto(parking)));
+    }
+
+    private static ServerSentEvent<VacancyResponseDto> toEvent(String name, String id, VacancyResponseDto vacancy) {
+        return ServerSentEvent.builder(vacancy).event(name).id(id).build();
+    }
+
+    private static int toSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_SIZE);
+    }
+}
@@ -1,17 +1,28 @@
 package com.poc.parkapi.web.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.poc.parkapi.entity.ClientVacancy;
 import com.poc.parkapi.jwt.JwtUserDetails;
 import com.poc.parkapi.repository.projection.ClientVacancyProjection;
+import com.poc.parkapi.service.CheckInResult;
 import com.poc.parkapi.service.ClientVacancyService;
 import com.poc.parkapi.service.ParkingService;
+import com.poc.parkapi.util.ParkingCursor;
 import com.poc.parkapi.web.dto.client.ClientResponseDto;
 import com.poc.parkapi.web.dto.mapper.ClientVacancyMapper;
+import com.poc.parkapi.web.dto.mapper.DtoMappingTimer;
 import com.poc.parkapi.web.dto.mapper.PageableMapper;
+import com.poc.parkapi.web.dto.pageable.CursorPageDto;
+import com.poc.parkapi.web.dto.pageable.PageCount;
 import com.poc.parkapi.web.dto.pageable.PageableDto;
+import com.poc.parkapi.web.dto.parking.CreateParkingBatchDto;
 import com.poc.parkapi.web.dto.parking.CreateParkingDto;
+import com.poc.parkapi.web.dto.parking.ParkingBatchItemDto;
 import com.poc.parkapi.web.dto.parking.ParkingResponseDto;
 import com.poc.parkapi.web.exception.ErrorMessage;
+import com.poc.parkapi.web.export.ParkingExportFormat;
+import com.poc.parkapi.web.export.ParkingExportWriter;
+import com.poc.parkapi.web.idempotency.IdempotencyFilter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -26,17 +37,23 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Tag(name = "Parking", description = "Contains all operation related to parking")
 @RequiredArgsConstructor
@@ -44,14 +61,27 @@ import java.net.URI;
 @RestController
 public class ParkingController {
 
+    private static final int MAX_CURSOR_SIZE = 100;
+
     private final ParkingService parkingService;
 
     private final ClientVacancyService clientVacancyService;
 
+    private final DtoMappingTimer dtoMappingTimer;
+
+    private final ObjectMapper objectMapper;
+
     @Operation(
             summary = "Create a new parking",
             security = @SecurityRequirement(name = "security"),
             description = "Resource to create a new parking",
+            parameters = {
+                    @Parameter(
+                            in = ParameterIn.HEADER,
+                            name = IdempotencyFilter.IDEMPOTENCY_KEY,
+                            description = "Unique key of the attempt; a retry with the same key gets the first response back"
+                    )
+            },
             responses = {
                     @ApiResponse(
                             responseCode = "201",
@@ -73,6 +103,14 @@ public class ParkingController {
                                     schema = @Schema(implementation = ErrorMessage.class)
                             )
                     ),
+                    @ApiResponse(
+                            responseCode = "409",
+                            description = "A request with the same Idempotency-Key is still in progress",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class)
+                            )
+                    ),
                     @ApiResponse(
                             responseCode = "422",
                             description = "Invalid field(s)",
@@ -98,7 +136,7 @@ public class ParkingController {
 
         parkingService.checkIn(clientVacancy);
 
-        ParkingResponseDto responseDto = ClientVacancyMapper.toDto(clientVacancy);
+        ParkingResponseDto responseDto = dtoMappingTimer.record("parking", () -> ClientVacancyMapper.toDto(clientVacancy));
 
         URI location = ServletUriComponentsBuilder
                 .fromCurrentRequestUri().path("/{receipt}")
@@ -109,6 +147,55 @@ public class ParkingController {
     }
 
 
+    @Operation(
+            summary = "Create many parking at once",
+            security = @SecurityRequirement(name = "security"),
+            description = "Resource to check in up to 500 entries at once, like the ones a gate buffered while " +
+                    "offline. The entry date recorded at the gate is kept. Each entry gets its own result, in " +
+                    "the request order: 201 with the parking, or 404 when the client or a free vacancy is not found",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Entries processed, see the status of each one",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    array = @ArraySchema(schema = @Schema(implementation = ParkingBatchItemDto.class))
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "422",
+                            description = "Invalid field(s)",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "Resource only allowed to ADMIN profile",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class)
+                            )
+                    )
+            }
+    )
+    @PostMapping("/check-in/batch")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<ParkingBatchItemDto>> checkInAll(@RequestBody @Valid CreateParkingBatchDto dto) {
+        List<ClientVacancy> entries = dto.getEntries().stream().map(ClientVacancyMapper::toClientVacancy).toList();
+
+        List<CheckInResult> results = parkingService.checkInAll(entries);
+
+        // the entries only fail for a missing client or free vacancy
+        return ResponseEntity.ok(results.stream()
+                .map(result -> result.isCheckedIn()
+                        ? new ParkingBatchItemDto(HttpStatus.CREATED.value(), null,
+                                dtoMappingTimer.record("parking", () -> ClientVacancyMapper.toDto(result.getParking())))
+                        : new ParkingBatchItemDto(HttpStatus.NOT_FOUND.value(), result.getError().getMessage(), null))
+                .toList());
+    }
+
     @Operation(
             summary = "Find parking",
             security = @SecurityRequirement(name = "security"),
@@ -144,7 +231,7 @@ public class ParkingController {
     public ResponseEntity<ParkingResponseDto> getByReceipt(@PathVariable("receipt") String receipt) {
         ClientVacancy clientVacancy = clientVacancyService.findByReceipt(receipt);
 
-        return ResponseEntity.ok(ClientVacancyMapper.toDto(clientVacancy));
+        return ResponseEntity.ok(dtoMappingTimer.record("parking", () -> ClientVacancyMapper.toDto(clientVacancy)));
     }
 
     @Operation(
@@ -156,6 +243,11 @@ public class ParkingController {
                             in = ParameterIn.PATH,
                             name = "receipt",
                             description = "Number of the receipt generated on check-in"
+                    ),
+                    @Parameter(
+                            in = ParameterIn.HEADER,
+                            name = IdempotencyFilter.IDEMPOTENCY_KEY,
+                            description = "Unique key of the attempt; a retry with the same key gets the first response back"
                     )
             },
             responses = {
@@ -175,6 +267,14 @@ public class ParkingController {
                                     schema = @Schema(implementation = ErrorMessage.class)
                             )
                     ),
+                    @ApiResponse(
+                            responseCode = "409",
+                            description = "A request with the same Idempotency-Key is still in progress",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class)
+                            )
+                    ),
                     @ApiResponse(
                             responseCode = "403",
                             description = "Resource only allowed to ADMIN profile",
@@ -190,7 +290,7 @@ public class ParkingController {
     public ResponseEntity<ParkingResponseDto> checkOut(@PathVariable("receipt") String receipt) {
         ClientVacancy clientVacancy = parkingService.checkOut(receipt);
 
-        return ResponseEntity.ok(ClientVacancyMapper.toDto(clientVacancy));
+        return ResponseEntity.ok(dtoMappingTimer.record("parking", () -> ClientVacancyMapper.toDto(clientVacancy)));
     }
 
     @Operation(
@@ -226,6 +326,18 @@ public class ParkingController {
                                     )
                             )
                     ),
+                    @Parameter(
+                            in = ParameterIn.QUERY,
+                            name = "count",
+                            content = @Content(
+                                    schema = @Schema(
+                                            type = "string",
+                                            allowableValues = {"EXACT", "NONE", "ESTIMATE"},
+                                            defaultValue = "EXACT",
+                                            description = "Totals of the page: counted, omitted (only 'hasNext') or estimated"
+                                    )
+                            )
+                    ),
                     @Parameter(
                             in = ParameterIn.QUERY,
                             name = "sort",
@@ -263,16 +375,101 @@ public class ParkingController {
     @GetMapping("/cpf/{cpf}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<PageableDto> getParkingByCpf(@PathVariable("cpf") String cpf,
+                                                       @Parameter(hidden = true) @RequestParam(value = "count", defaultValue = "EXACT") PageCount count,
                                                        @PageableDefault(size = 5, sort = "entryDate",
                                                                direction = Sort.Direction.ASC) Pageable pageable) {
+        if (count == PageCount.EXACT) {
+            Page<ClientVacancyProjection> projection = clientVacancyService.findAllByClientCpf(cpf, pageable);
+
+            return ResponseEntity.ok(dtoMappingTimer.record("page", () -> PageableMapper.toDto(projection)));
+        }
 
-        Page<ClientVacancyProjection> projection = clientVacancyService.findAllByClientCpf(cpf, pageable);
+        Slice<ClientVacancyProjection> projection = clientVacancyService.findSliceByClientCpf(cpf, pageable);
 
-        PageableDto dto = PageableMapper.toDto(projection);
+        // the estimate is read before the timer starts, so only the mapping itself is timed
+        long estimatedTotal = count == PageCount.ESTIMATE ? clientVacancyService.estimateCountByClientCpf(cpf) : 0;
+        PageableDto dto = dtoMappingTimer.record("page", () -> count == PageCount.ESTIMATE
+                ? PageableMapper.toDto(projection, estimatedTotal)
+                : PageableMapper.toDto(projection));
 
         return ResponseEntity.ok(dto);
     }
 
+    @Operation(
+            summary = "Export all parking by cpf",
+            security = @SecurityRequirement(name = "security"),
+            description = "Resource to export the whole parking history of a client, ordered by entry date, " +
+                    "as newline delimited JSON or CSV. Rows are streamed while they are read. Only to ADMIN",
+            parameters = {
+                    @Parameter(
+                            in = ParameterIn.PATH,
+                            description = "Client CPF",
+                            name = "cpf",
+                            required = true
+                    ),
+                    @Parameter(
+                            in = ParameterIn.QUERY,
+                            name = "format",
+                            content = @Content(
+                                    schema = @Schema(
+                                            type = "string",
+                                            allowableValues = {"NDJSON", "CSV"},
+                                            defaultValue = "NDJSON",
+                                            description = "Export format"
+                                    )
+                            )
+                    ),
+                    @Parameter(
+                            in = ParameterIn.QUERY,
+                            name = "from",
+                            description = "Only parking entered at or after this date, e.g. 2023-03-13T00:00:00"
+                    ),
+                    @Parameter(
+                            in = ParameterIn.QUERY,
+                            name = "to",
+                            description = "Only parking entered before this date, e.g. 2023-03-14T00:00:00"
+                    )
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Parking exported with success",
+                            content = {
+                                    @Content(mediaType = "application/x-ndjson"),
+                                    @Content(mediaType = "text/csv")
+                            }
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "Resource only allowed to ADMIN profile",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class)
+                            )
+                    )
+            }
+    )
+    @GetMapping("/cpf/{cpf}/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportParkingByCpf(@PathVariable("cpf") String cpf,
+                                                                    @RequestParam(value = "format", defaultValue = "NDJSON") ParkingExportFormat format,
+                                                                    @RequestParam(value = "from", required = false)
+                                                                    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                                    @RequestParam(value = "to", required = false)
+                                                                    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        StreamingResponseBody body = out -> {
+            try (ParkingExportWriter writer = ParkingExportWriter.of(format, objectMapper, out)) {
+                clientVacancyService.exportByClientCpf(cpf, from, to, writer::write);
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        String.format("attachment; filename=\"parking-%s.%s\"", cpf, format.getExtension()))
+                .body(body);
+    }
+
     @Operation(
             summary = "Get all parking logged user",
             security = @SecurityRequirement(name = "security"),
@@ -300,6 +497,18 @@ public class ParkingController {
                                     )
                             )
                     ),
+                    @Parameter(
+                            in = ParameterIn.QUERY,
+                            name = "count",
+                            content = @Content(
+                                    schema = @Schema(
+                                            type = "string",
+                                            allowableValues = {"EXACT", "NONE", "ESTIMATE"},
+                                            defaultValue = "EXACT",
+                                            description = "Totals of the page: counted, omitted (only 'hasNext') or estimated"
+                                    )
+                            )
+                    ),
                     @Parameter(
                             in = ParameterIn.QUERY,
                             name = "sort",
@@ -338,13 +547,163 @@ public class ParkingController {
     @GetMapping
     @PreAuthorize("hasRole('CLIENT')")
     public ResponseEntity<PageableDto> getParkingFromClient(@AuthenticationPrincipal JwtUserDetails userDetails,
+                                                       @Parameter(hidden = true) @RequestParam(value = "count", defaultValue = "EXACT") PageCount count,
                                                        @PageableDefault(size = 5, sort = "entryDate",
                                                                direction = Sort.Direction.ASC) Pageable pageable) {
+        if (count == PageCount.EXACT) {
+            Page<ClientVacancyProjection> projection = clientVacancyService.findAllFromUserId(userDetails.getId(), pageable);
 
-        Page<ClientVacancyProjection> projection = clientVacancyService.findAllFromUserId(userDetails.getId(), pageable);
+            return ResponseEntity.ok(dtoMappingTimer.record("page", () -> PageableMapper.toDto(projection)));
+        }
 
-        PageableDto dto = PageableMapper.toDto(projection);
+        Slice<ClientVacancyProjection> projection = clientVacancyService.findSliceFromUserId(userDetails.getId(), pageable);
+
+        // the estimate is read before the timer starts, so only the mapping itself is timed
+        long estimatedTotal = count == PageCount.ESTIMATE ? clientVacancyService.estimateCountFromUserId(userDetails.getId()) : 0;
+        PageableDto dto = dtoMappingTimer.record("page", () -> count == PageCount.ESTIMATE
+                ? PageableMapper.toDto(projection, estimatedTotal)
+                : PageableMapper.toDto(projection));
 
         return ResponseEntity.ok(dto);
     }
+
+    @Operation(
+            summary = "Get all parking by cpf using a cursor",
+            security = @SecurityRequirement(name = "security"),
+            description = "Resource to get all parking by cpf ordered by entry date, continuing from the cursor " +
+                    "of the previous page. Total elements are not counted. Only to ADMIN",
+            parameters = {
+                    @Parameter(
+                            in = ParameterIn.PATH,
+                            description = "Client CPF",
+                            name = "cpf",
+                            required = true
+                    ),
+                    @Parameter(
+                            in = ParameterIn.QUERY,
+                            name = "cursor",
+                            description = "Cursor returned as 'nextCursor' by the previous page, absent for the first page"
+                    ),
+                    @Parameter(
+                            in = ParameterIn.QUERY,
+                            name = "size",
+                            content = @Content(
+                                    schema = @Schema(
+                                            type = "integer",
+                                            defaultValue = "5",
+                                            maximum = "100",
+                                            description = "Total elements per page"
+                                    )
+                            )
+                    )
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Parking listed with success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = CursorPageDto.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid cursor",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "Resource only allowed to ADMIN profile",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class)
+                            )
+                    )
+            }
+    )
+    @GetMapping("/cpf/{cpf}/cursor")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CursorPageDto> getParkingByCpfWithCursor(@PathVariable("cpf") String cpf,
+                                                                   @RequestParam(value = "cursor", required = false) String cursor,
+                                                                   @RequestParam(value = "size", defaultValue = "5") int size) {
+        int pageSize = toCursorSize(size);
+
+        List<ClientVacancyProjection> rows = clientVacancyService.findKeysetByClientCpf(cpf, toCursor(cursor), pageSize + 1);
+
+        return ResponseEntity.ok(PageableMapper.toCursorDto(rows, pageSize));
+    }
+
+    @Operation(
+            summary = "Get all parking logged user using a cursor",
+            security = @SecurityRequirement(name = "security"),
+            description = "Resource to get all parking from logged user ordered by entry date, continuing from the cursor " +
+                    "of the previous page. Total elements are not counted. Only to CLIENT",
+            parameters = {
+                    @Parameter(
+                            in = ParameterIn.QUERY,
+                            name = "cursor",
+                            description = "Cursor returned as 'nextCursor' by the previous page, absent for the first page"
+                    ),
+                    @Parameter(
+                            in = ParameterIn.QUERY,
+                            name = "size",
+                            content = @Content(
+                                    schema = @Schema(
+                                            type = "integer",
+                                            defaultValue = "5",
+                                            maximum = "100",
+                                            description = "Total elements per page"
+                                    )
+                            )
+                    )
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Parking listed with success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = CursorPageDto.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Invalid cursor",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "Parking only allowed to CLIENT profile",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class)
+                            )
+                    )
+            }
+    )
+    @GetMapping("/cursor")
+    @PreAuthorize("hasRole('CLIENT')")
+    public ResponseEntity<CursorPageDto> getParkingFromClientWithCursor(@AuthenticationPrincipal JwtUserDetails userDetails,
+                                                                        @RequestParam(value = "cursor", required = false) String cursor,
+                                                                        @RequestParam(value = "size", defaultValue = "5") int size) {
+        int pageSize = toCursorSize(size);
+
+        List<ClientVacancyProjection> rows = clientVacancyService.findKeysetFromUserId(userDetails.getId(), toCursor(cursor), pageSize + 1);
+
+        return ResponseEntity.ok(PageableMapper.toCursorDto(rows, pageSize));
+    }
+
+    private static ParkingCursor toCursor(String cursor) {
+        return cursor == null || cursor.isBlank() ? null : ParkingCursor.decode(cursor);
+    }
+
+    private static int toCursorSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_CURSOR_SIZE);
+    }
 }
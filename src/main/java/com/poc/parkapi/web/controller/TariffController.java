@@ -0,0 +1,61 @@
+package com.poc.parkapi.web.controller;
+
+import com.poc.parkapi.service.TariffService;
+import com.poc.parkapi.web.exception.ErrorMessage;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Tariffs", description = "Contains all operation related to tariffs")
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/tariffs")
+public class TariffController {
+
+    private final TariffService tariffService;
+
+    @Operation(
+            summary = "Reload tariffs",
+            security = @SecurityRequirement(name = "security"),
+            description = "Resource to put the stored tariffs in use without waiting for the periodic reload. Only to ADMIN",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "204",
+                            description = "Tariffs reloaded with success"
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "Resource only allowed to ADMIN profile",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "422",
+                            description = "Stored tariffs are invalid, the current ones were kept",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class)
+                            )
+                    )
+            }
+    )
+    @PostMapping("/reload")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> reload() {
+        tariffService.reload();
+
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -5,6 +5,7 @@ import com.poc.parkapi.service.UserService;
 import com.poc.parkapi.web.dto.user.CreateUserDto;
 import com.poc.parkapi.web.dto.user.UpdateUserPasswordDto;
 import com.poc.parkapi.web.dto.user.UserResponseDto;
+import com.poc.parkapi.web.dto.mapper.DtoMappingTimer;
 import com.poc.parkapi.web.dto.mapper.UserMapper;
 import com.poc.parkapi.web.exception.ErrorMessage;
 import io.swagger.v3.oas.annotations.Operation;
@@ -32,6 +33,8 @@ public class UserController {
 
     private final UserService userService;
 
+    private final DtoMappingTimer dtoMappingTimer;
+
     @Operation(
             summary = "Create a new user",
             description = "Resource to create a new user",
@@ -66,7 +69,7 @@ public class UserController {
     public ResponseEntity<UserResponseDto> create(@RequestBody @Valid CreateUserDto createUserDto) {
         User response = userService.save(UserMapper.toUser(createUserDto));
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(UserMapper.toResponseDto(response));
+        return ResponseEntity.status(HttpStatus.CREATED).body(dtoMappingTimer.record("user", () -> UserMapper.toResponseDto(response)));
     }
 
 
@@ -115,7 +118,7 @@ public class UserController {
     public ResponseEntity<UserResponseDto> getUserById(@PathVariable("id") Long id) {
         User response = userService.findById(id);
 
-        return ResponseEntity.status(HttpStatus.OK).body(UserMapper.toResponseDto(response));
+        return ResponseEntity.status(HttpStatus.OK).body(dtoMappingTimer.record("user", () -> UserMapper.toResponseDto(response)));
     }
 
     @Operation(
@@ -157,7 +160,7 @@ public class UserController {
     public ResponseEntity<List<UserResponseDto>> getAll() {
         List<User> response = userService.findAll();
 
-        return ResponseEntity.status(HttpStatus.OK).body(UserMapper.toResponseListDto(response));
+        return ResponseEntity.status(HttpStatus.OK).body(dtoMappingTimer.record("user", () -> UserMapper.toResponseListDto(response)));
     }
 
     @Operation(
@@ -1,9 +1,15 @@
 package com.poc.parkapi.web.controller;
 
 import com.poc.parkapi.entity.Vacancy;
+import com.poc.parkapi.enums.StatusVacancy;
+import com.poc.parkapi.service.VacancyBatchResult;
 import com.poc.parkapi.service.VacancyService;
+import com.poc.parkapi.util.VacancyCodeRange;
+import com.poc.parkapi.web.dto.mapper.DtoMappingTimer;
 import com.poc.parkapi.web.dto.mapper.VacancyMapper;
+import com.poc.parkapi.web.dto.vacancy.CreateVacanciesDto;
 import com.poc.parkapi.web.dto.vacancy.CreateVacancyDto;
+import com.poc.parkapi.web.dto.vacancy.VacanciesResponseDto;
 import com.poc.parkapi.web.dto.vacancy.VacancyResponseDto;
 import com.poc.parkapi.web.exception.ErrorMessage;
 import io.swagger.v3.oas.annotations.Operation;
@@ -16,6 +22,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -23,6 +30,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.util.List;
 
 @Tag(name = "Vacancies", description = "Contains all operation related to vacancies")
 @RequiredArgsConstructor
@@ -33,6 +41,8 @@ public class VacancyController {
 
     private final VacancyService vacancyService;
 
+    private final DtoMappingTimer dtoMappingTimer;
+
     @Operation(
             summary = "Create a new vacancy",
             security = @SecurityRequirement(name = "security"),
@@ -87,6 +97,72 @@ public class VacancyController {
         return ResponseEntity.created(location).build();
     }
 
+    @Operation(
+            summary = "Create many vacancies",
+            security = @SecurityRequirement(name = "security"),
+            description = "Resource to create up to 5000 vacancies at once, from a list of codes or a range " +
+                    "like 'A-01..Z-99'. Codes already registered are returned as conflicts and don't stop the others",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "201",
+                            description = "Vacancies created, with the conflicts if any",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = VacanciesResponseDto.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "No vacancy created, every code already registered",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = VacanciesResponseDto.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "409",
+                            description = "Vacancies registered concurrently by another request",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "422",
+                            description = "Invalid field(s) or range",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "Resource only allowed to ADMIN profile",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ErrorMessage.class)
+                            )
+                    )
+            }
+    )
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<VacanciesResponseDto> createAll(@RequestBody @Valid CreateVacanciesDto dto) {
+        List<String> codes = dto.getRange() != null ? VacancyCodeRange.expand(dto.getRange()) : dto.getCodes();
+
+        VacancyBatchResult result = vacancyService.saveAll(codes, StatusVacancy.valueOf(dto.getStatus()));
+
+        VacanciesResponseDto body = new VacanciesResponseDto(
+                result.getCreated().stream()
+                        .map(vacancy -> dtoMappingTimer.record("vacancy", () -> VacancyMapper.toDto(vacancy)))
+                        .toList(),
+                result.getConflicts().entrySet().stream()
+                        .map(conflict -> new VacanciesResponseDto.VacancyConflictDto(conflict.getKey(), conflict.getValue().getMessage()))
+                        .toList());
+
+        return ResponseEntity.status(body.getCreated().isEmpty() ? HttpStatus.OK : HttpStatus.CREATED).body(body);
+    }
+
     @Operation(
             summary = "Create a new vacancy",
             security = @SecurityRequirement(name = "security"),
@@ -123,7 +199,7 @@ public class VacancyController {
     public ResponseEntity<VacancyResponseDto> findByCode(@PathVariable("code") String code) {
         Vacancy result = vacancyService.findByCode(code);
 
-        return ResponseEntity.ok(VacancyMapper.toDto(result));
+        return ResponseEntity.ok(dtoMappingTimer.record("vacancy", () -> VacancyMapper.toDto(result)));
     }
 
 }
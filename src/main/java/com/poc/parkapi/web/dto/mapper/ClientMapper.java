@@ -5,18 +5,32 @@ import com.poc.parkapi.web.dto.client.CreateClientDto;
 import com.poc.parkapi.web.dto.client.ClientResponseDto;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+import org.mapstruct.factory.Mappers;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ClientMapper {
 
+    private static final Definition MAPPER = Mappers.getMapper(Definition.class);
+
     public static Client toClient(CreateClientDto createClientDto) {
-        return new ModelMapper().map(createClientDto, Client.class);
+        return MAPPER.toClient(createClientDto);
     }
 
     public static ClientResponseDto toResponseDto(Client client) {
-        return new ModelMapper().map(client, ClientResponseDto.class);
+        return MAPPER.toResponseDto(client);
     }
 
+    @Mapper(unmappedTargetPolicy = ReportingPolicy.ERROR)
+    interface Definition {
+
+        @BeanMapping(unmappedTargetPolicy = ReportingPolicy.IGNORE)
+        Client toClient(CreateClientDto createClientDto);
+
+        ClientResponseDto toResponseDto(Client client);
+
+    }
 
 }
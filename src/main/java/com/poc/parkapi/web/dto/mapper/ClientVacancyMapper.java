@@ -1,21 +1,56 @@
 package com.poc.parkapi.web.dto.mapper;
 
 import com.poc.parkapi.entity.ClientVacancy;
+import com.poc.parkapi.repository.reactive.ParkingView;
 import com.poc.parkapi.web.dto.parking.CreateParkingDto;
+import com.poc.parkapi.web.dto.parking.CreateParkingEntryDto;
 import com.poc.parkapi.web.dto.parking.ParkingResponseDto;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+import org.mapstruct.factory.Mappers;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ClientVacancyMapper {
 
+    private static final Definition MAPPER = Mappers.getMapper(Definition.class);
+
     public static ClientVacancy toClientVacancy(CreateParkingDto dto) {
-        return new ModelMapper().map(dto, ClientVacancy.class);
+        return MAPPER.toClientVacancy(dto);
+    }
+
+    public static ClientVacancy toClientVacancy(CreateParkingEntryDto dto) {
+        return MAPPER.toClientVacancy(dto);
     }
 
     public static ParkingResponseDto toDto(ClientVacancy clientVacancy) {
-        return new ModelMapper().map(clientVacancy, ParkingResponseDto.class);
+        return MAPPER.toDto(clientVacancy);
+    }
+
+    public static ParkingResponseDto toDto(ParkingView parking) {
+        return MAPPER.toDto(parking);
+    }
+
+    @Mapper(unmappedTargetPolicy = ReportingPolicy.ERROR)
+    interface Definition {
+
+        @BeanMapping(unmappedTargetPolicy = ReportingPolicy.IGNORE)
+        @Mapping(target = "client.cpf", source = "clientCpf")
+        ClientVacancy toClientVacancy(CreateParkingDto dto);
+
+        @BeanMapping(unmappedTargetPolicy = ReportingPolicy.IGNORE)
+        @Mapping(target = "client.cpf", source = "clientCpf")
+        ClientVacancy toClientVacancy(CreateParkingEntryDto dto);
+
+        @Mapping(target = "clientCpf", source = "client.cpf")
+        @Mapping(target = "vacancyCode", source = "vacancy.code")
+        ParkingResponseDto toDto(ClientVacancy clientVacancy);
+
+        ParkingResponseDto toDto(ParkingView parking);
+
     }
 
 }
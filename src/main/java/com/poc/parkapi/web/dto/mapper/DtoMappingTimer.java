@@ -0,0 +1,32 @@
+package com.poc.parkapi.web.dto.mapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Times the entity to response mappings done by the controllers, tagged by mapper, on the application's
+ * registry. The mappers themselves stay plain static facades, so benchmarks and tests call them untimed.
+ */
+@RequiredArgsConstructor
+@Component
+public class DtoMappingTimer {
+
+    public static final String METRIC_NAME = "parking.dto.mapping";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public <T> T record(String mapper, Supplier<T> mapping) {
+        return timers.computeIfAbsent(mapper, name -> Timer.builder(METRIC_NAME)
+                        .tag("mapper", name)
+                        .register(meterRegistry))
+                .record(mapping);
+    }
+}
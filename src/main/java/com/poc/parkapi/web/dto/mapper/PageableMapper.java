@@ -1,16 +1,78 @@
 package com.poc.parkapi.web.dto.mapper;
 
+import com.poc.parkapi.repository.projection.ClientVacancyProjection;
+import com.poc.parkapi.util.ParkingCursor;
+import com.poc.parkapi.web.dto.pageable.CursorPageDto;
 import com.poc.parkapi.web.dto.pageable.PageableDto;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+import org.mapstruct.factory.Mappers;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class PageableMapper {
 
-    public static PageableDto toDto(Page page) {
-        return new ModelMapper().map(page, PageableDto.class);
+    private static final Definition MAPPER = Mappers.getMapper(Definition.class);
+
+    public static PageableDto toDto(Page<?> page) {
+        return MAPPER.toDto(page);
+    }
+
+    /**
+     * Page without totals, only telling whether there is a next one.
+     */
+    public static PageableDto toDto(Slice<?> slice) {
+        return MAPPER.toSliceDto(slice);
+    }
+
+    /**
+     * Page with totals taken from an estimated count instead of counting the query.
+     */
+    public static PageableDto toDto(Slice<?> slice, long estimatedTotal) {
+        PageableDto dto = MAPPER.toSliceDto(slice);
+        dto.setTotalElements((int) estimatedTotal);
+        dto.setTotalPages(slice.getSize() == 0 ? 1 : (int) Math.ceil((double) estimatedTotal / slice.getSize()));
+        dto.setEstimated(true);
+        return dto;
+    }
+
+    /**
+     * Keyset page from rows fetched with one extra element, which only tells whether there is a next page.
+     */
+    public static CursorPageDto toCursorDto(List<ClientVacancyProjection> rows, int size) {
+        CursorPageDto dto = new CursorPageDto();
+        dto.setSize(size);
+        dto.setHasNext(rows.size() > size);
+
+        List<ClientVacancyProjection> content = dto.isHasNext() ? rows.subList(0, size) : rows;
+        dto.getContent().addAll(content);
+
+        if (dto.isHasNext()) {
+            ClientVacancyProjection last = content.get(content.size() - 1);
+            dto.setNextCursor(new ParkingCursor(last.getEntryDate(), last.getId()).encode());
+        }
+        return dto;
+    }
+
+    @Mapper(unmappedTargetPolicy = ReportingPolicy.ERROR)
+    interface Definition {
+
+        @Mapping(target = "hasNext", expression = "java(page.hasNext())")
+        @Mapping(target = "estimated", ignore = true)
+        PageableDto toDto(Page<?> page);
+
+        @Mapping(target = "hasNext", expression = "java(slice.hasNext())")
+        @Mapping(target = "totalPages", ignore = true)
+        @Mapping(target = "totalElements", ignore = true)
+        @Mapping(target = "estimated", ignore = true)
+        PageableDto toSliceDto(Slice<?> slice);
+
     }
 
 }
@@ -1,38 +1,46 @@
 package com.poc.parkapi.web.dto.mapper;
 
 import com.poc.parkapi.entity.User;
+import com.poc.parkapi.enums.Role;
 import com.poc.parkapi.web.dto.user.CreateUserDto;
 import com.poc.parkapi.web.dto.user.UserResponseDto;
-import org.modelmapper.ModelMapper;
-import org.modelmapper.PropertyMap;
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+import org.mapstruct.factory.Mappers;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class UserMapper {
 
+    private static final Definition MAPPER = Mappers.getMapper(Definition.class);
+
     public static User toUser(CreateUserDto createUserDto) {
-        return new ModelMapper().map(createUserDto, User.class);
+        return MAPPER.toUser(createUserDto);
     }
 
     public static UserResponseDto toResponseDto(User user) {
-        String role = user.getRole().name().substring("ROLE_".length());
+        return MAPPER.toResponseDto(user);
+    }
 
-        PropertyMap<User, UserResponseDto> props = new PropertyMap<User, UserResponseDto>() {
-            @Override
-            protected void configure() {
-                map().setRole(role);
-            }
-        };
+    public static List<UserResponseDto> toResponseListDto(List<User> users) {
+        return MAPPER.toResponseListDto(users);
+    }
 
-        ModelMapper mapper = new ModelMapper();
-        mapper.addMappings(props);
+    @Mapper(unmappedTargetPolicy = ReportingPolicy.ERROR)
+    interface Definition {
 
-        return mapper.map(user, UserResponseDto.class);
-    }
+        @BeanMapping(unmappedTargetPolicy = ReportingPolicy.IGNORE)
+        User toUser(CreateUserDto createUserDto);
+
+        UserResponseDto toResponseDto(User user);
+
+        List<UserResponseDto> toResponseListDto(List<User> users);
+
+        default String roleName(Role role) {
+            return role == null ? null : role.name().substring("ROLE_".length());
+        }
 
-    public static List<UserResponseDto> toResponseListDto(List<User> users) {
-        return users.stream().map(UserMapper::toResponseDto).collect(Collectors.toList());
     }
 
 }
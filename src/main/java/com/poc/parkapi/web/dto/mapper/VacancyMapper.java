@@ -1,21 +1,50 @@
 package com.poc.parkapi.web.dto.mapper;
 
 import com.poc.parkapi.entity.Vacancy;
+import com.poc.parkapi.event.VacancyStatusChangedEvent;
+import com.poc.parkapi.repository.reactive.VacancyView;
 import com.poc.parkapi.web.dto.vacancy.CreateVacancyDto;
 import com.poc.parkapi.web.dto.vacancy.VacancyResponseDto;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+import org.mapstruct.factory.Mappers;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class VacancyMapper {
 
+    private static final Definition MAPPER = Mappers.getMapper(Definition.class);
+
     public static Vacancy toVacancy(CreateVacancyDto dto) {
-        return new ModelMapper().map(dto, Vacancy.class);
+        return MAPPER.toVacancy(dto);
     }
 
     public static VacancyResponseDto toDto(Vacancy vacancy) {
-        return new ModelMapper().map(vacancy, VacancyResponseDto.class);
+        return MAPPER.toDto(vacancy);
+    }
+
+    public static VacancyResponseDto toDto(VacancyView vacancy) {
+        return MAPPER.toDto(vacancy);
+    }
+
+    public static VacancyResponseDto toDto(VacancyStatusChangedEvent event) {
+        return MAPPER.toDto(event);
+    }
+
+    @Mapper(unmappedTargetPolicy = ReportingPolicy.ERROR)
+    interface Definition {
+
+        @BeanMapping(unmappedTargetPolicy = ReportingPolicy.IGNORE)
+        Vacancy toVacancy(CreateVacancyDto dto);
+
+        VacancyResponseDto toDto(Vacancy vacancy);
+
+        VacancyResponseDto toDto(VacancyView vacancy);
+
+        VacancyResponseDto toDto(VacancyStatusChangedEvent event);
+
     }
 
 }
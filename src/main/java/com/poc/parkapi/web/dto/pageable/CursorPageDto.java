@@ -0,0 +1,22 @@
+package com.poc.parkapi.web.dto.pageable;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter @Setter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CursorPageDto {
+
+    private List<Object> content = new ArrayList<>();
+
+    private int size;
+
+    private boolean hasNext;
+
+    private String nextCursor;
+
+}
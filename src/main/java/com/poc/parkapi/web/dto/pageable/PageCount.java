@@ -0,0 +1,23 @@
+package com.poc.parkapi.web.dto.pageable;
+
+/**
+ * How the total of a paged listing is reported.
+ */
+public enum PageCount {
+
+    /**
+     * Exact totals, paying for a count query on every page.
+     */
+    EXACT,
+
+    /**
+     * No totals, only whether there is a next page.
+     */
+    NONE,
+
+    /**
+     * Totals from a periodically refreshed count, which may lag behind recent changes.
+     */
+    ESTIMATE
+
+}
@@ -1,5 +1,6 @@
 package com.poc.parkapi.web.dto.pageable;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 import lombok.Setter;
@@ -8,6 +9,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Getter @Setter
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PageableDto {
 
     private List<Object> content = new ArrayList<>();
@@ -24,8 +26,12 @@ public class PageableDto {
     @JsonProperty("pageElements")
     private int numberOfElements;
 
-    private int totalPages;
+    private boolean hasNext;
 
-    private int totalElements;
+    private Integer totalPages;
+
+    private Integer totalElements;
+
+    private Boolean estimated;
 
 }
@@ -0,0 +1,21 @@
+package com.poc.parkapi.web.dto.parking;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateParkingBatchDto {
+
+    @NotEmpty
+    @Size(max = 500)
+    private List<@Valid @NotNull CreateParkingEntryDto> entries;
+
+}
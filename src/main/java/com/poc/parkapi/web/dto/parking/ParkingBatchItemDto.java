@@ -0,0 +1,22 @@
+package com.poc.parkapi.web.dto.parking;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ParkingBatchItemDto {
+
+    private int status;
+
+    private String message;
+
+    private ParkingResponseDto parking;
+
+}
@@ -0,0 +1,32 @@
+package com.poc.parkapi.web.dto.vacancy;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class CreateVacanciesDto {
+
+    @Size(max = 5000)
+    private List<@NotBlank @Size(min = 4, max = 4) String> codes;
+
+    @Pattern(regexp = "[A-Z]-\\d{2}\\.\\.[A-Z]-\\d{2}")
+    private String range;
+
+    @NotBlank
+    @Pattern(regexp = "FREE|BUSY")
+    private String status;
+
+    @AssertTrue(message = "Inform either codes or range")
+    private boolean isCodesOrRange() {
+        return (codes == null || codes.isEmpty()) != (range == null);
+    }
+}
@@ -0,0 +1,22 @@
+package com.poc.parkapi.web.dto.vacancy;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class OccupancyResponseDto {
+
+    private long free;
+
+    private long busy;
+
+    private long total;
+
+}
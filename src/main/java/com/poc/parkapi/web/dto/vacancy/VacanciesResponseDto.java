@@ -0,0 +1,29 @@
+package com.poc.parkapi.web.dto.vacancy;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class VacanciesResponseDto {
+
+    private List<VacancyResponseDto> created;
+
+    private List<VacancyConflictDto> conflicts;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @ToString
+    public static class VacancyConflictDto {
+
+        private String code;
+
+        private String message;
+    }
+}
@@ -3,6 +3,7 @@ package com.poc.parkapi.web.exception;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -28,6 +29,15 @@ public class ApiExceptionHandler {
                 .body(new ErrorMessage(request, HttpStatus.UNPROCESSABLE_ENTITY, "Invalid field(s)", result));
     }
 
+    @ExceptionHandler({InvalidTariffException.class, InvalidVacancyRangeException.class})
+    public ResponseEntity<ErrorMessage> unprocessableEntityException(RuntimeException ex, HttpServletRequest request) {
+        log.error("API Error -> ", ex);
+        return ResponseEntity
+                .status(HttpStatus.UNPROCESSABLE_ENTITY)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new ErrorMessage(request, HttpStatus.UNPROCESSABLE_ENTITY, ex.getMessage()));
+    }
+
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<ErrorMessage> accessDeniedException(AccessDeniedException ex, HttpServletRequest request) {
         log.error("API Error -> ", ex);
@@ -46,6 +56,15 @@ public class ApiExceptionHandler {
                 .body(new ErrorMessage(request, HttpStatus.CONFLICT, ex.getMessage()));
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorMessage> optimisticLockingFailureException(OptimisticLockingFailureException ex, HttpServletRequest request) {
+        log.error("API Error -> ", ex);
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new ErrorMessage(request, HttpStatus.CONFLICT, "Resource was modified concurrently, try again"));
+    }
+
     @ExceptionHandler({UserNotFoundException.class, EntityNotFoundException.class})
     public ResponseEntity<ErrorMessage> userNotFoundException(RuntimeException ex, HttpServletRequest request) {
         log.error("API Error -> ", ex);
@@ -55,8 +74,8 @@ public class ApiExceptionHandler {
                 .body(new ErrorMessage(request, HttpStatus.NOT_FOUND, ex.getMessage()));
     }
 
-    @ExceptionHandler(InvalidPasswordException.class)
-    public ResponseEntity<ErrorMessage> invalidPasswordException(InvalidPasswordException ex, HttpServletRequest request) {
+    @ExceptionHandler({InvalidPasswordException.class, InvalidCursorException.class})
+    public ResponseEntity<ErrorMessage> badRequestException(RuntimeException ex, HttpServletRequest request) {
         log.error("API Error -> ", ex);
         return ResponseEntity
                 .status(HttpStatus.BAD_REQUEST)
@@ -0,0 +1,8 @@
+package com.poc.parkapi.web.exception;
+
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.poc.parkapi.web.exception;
+
+public class InvalidTariffException extends RuntimeException {
+
+    public InvalidTariffException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.poc.parkapi.web.exception;
+
+public class InvalidVacancyRangeException extends RuntimeException {
+
+    public InvalidVacancyRangeException(String message) {
+        super(message);
+    }
+}
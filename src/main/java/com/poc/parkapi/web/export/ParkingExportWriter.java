@@ -0,0 +1,162 @@
+package com.poc.parkapi.web.export;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.poc.parkapi.repository.projection.ClientVacancyProjection;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes parking rows to the response one at a time, so an export holds a single row in memory.
+ */
+public abstract class ParkingExportWriter implements Closeable {
+
+    /**
+     * Entry and departure dates of both formats.
+     */
+    public static final String DATE_PATTERN = "yyyy-MM-dd HH:mm:ss";
+
+    public static ParkingExportWriter of(ParkingExportFormat format, ObjectMapper objectMapper, OutputStream out) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonWriter(objectMapper, out);
+            case CSV -> new CsvWriter(out);
+        };
+    }
+
+    /**
+     * Writes one row. Failures writing to the client are rethrown unchecked to abort the database stream.
+     */
+    public void write(ClientVacancyProjection row) {
+        try {
+            writeRow(row);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    protected abstract void writeRow(ClientVacancyProjection row) throws IOException;
+
+    /**
+     * Replaces the 12-hour dates of the projection with {@link #DATE_PATTERN} in the NDJSON export only.
+     */
+    private interface ExportDates {
+
+        @JsonFormat(pattern = DATE_PATTERN)
+        LocalDateTime getEntryDate();
+
+        @JsonFormat(pattern = DATE_PATTERN)
+        LocalDateTime getDepartureDate();
+    }
+
+    private static class NdjsonWriter extends ParkingExportWriter {
+
+        private final ObjectWriter writer;
+
+        private final JsonGenerator generator;
+
+        NdjsonWriter(ObjectMapper objectMapper, OutputStream out) throws IOException {
+            ObjectMapper exportMapper = objectMapper.copy().addMixIn(ClientVacancyProjection.class, ExportDates.class);
+            this.writer = exportMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            this.generator = exportMapper.getFactory().createGenerator(out);
+        }
+
+        @Override
+        protected void writeRow(ClientVacancyProjection row) throws IOException {
+            writer.writeValue(generator, row);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    private static class CsvWriter extends ParkingExportWriter {
+
+        private static final String HEADER = "receipt,plate,brand,model,color,clientCpf,vacancyCode,entryDate,departureDate,amount,discount";
+
+        private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+        private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern(DATE_PATTERN);
+
+        private final Writer writer;
+
+        CsvWriter(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            this.writer.write(HEADER);
+            this.writer.write('\n');
+        }
+
+        @Override
+        protected void writeRow(ClientVacancyProjection row) throws IOException {
+            writeField(row.getReceipt(), ',');
+            writeText(row.getPlate(), ',');
+            writeText(row.getBrand(), ',');
+            writeText(row.getModel(), ',');
+            writeText(row.getColor(), ',');
+            writeField(row.getClientCpf(), ',');
+            writeField(row.getVacancyCode(), ',');
+            writeDate(row.getEntryDate(), ',');
+            writeDate(row.getDepartureDate(), ',');
+            writeField(row.getAmount(), ',');
+            writeField(row.getDiscount(), '\n');
+        }
+
+        /**
+         * Free text typed at the gate: a leading formula character is escaped with a quote so spreadsheets
+         * show the value instead of evaluating it.
+         */
+        private void writeText(String value, char separator) throws IOException {
+            if (value != null && !value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+                value = "'" + value;
+            }
+            writeField(value, separator);
+        }
+
+        private void writeDate(LocalDateTime value, char separator) throws IOException {
+            writeField(value == null ? null : DATE_FORMAT.format(value), separator);
+        }
+
+        private void writeField(Object value, char separator) throws IOException {
+            if (value != null) {
+                String text = value.toString();
+                if (needsQuotes(text)) {
+                    writer.write('"');
+                    writer.write(text.replace("\"", "\"\""));
+                    writer.write('"');
+                } else {
+                    writer.write(text);
+                }
+            }
+            writer.write(separator);
+        }
+
+        private static boolean needsQuotes(String text) {
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.poc.parkapi.web.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poc.parkapi.web.exception.ErrorMessage;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * Lets gates safely retry check-in and check-out: a request sent again with the same Idempotency-Key gets the
+ * stored response back, marked with 'Idempotent-Replayed', without touching the parking or vacancy tables.
+ * A key sent again with another request body is rejected with 422 instead of replaying a response that
+ * belongs to a different operation. Runs after the security filters, so keys are scoped by the authenticated user.
+ */
+@RequiredArgsConstructor
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+    public static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private static final String CHECK_IN = "/api/v1/parking/check-in";
+
+    private static final String CHECK_OUT = "/api/v1/parking/check-out/*";
+
+    private static final PathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final IdempotencyStore idempotencyStore;
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getHeader(IDEMPOTENCY_KEY) == null || operation(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = request.getHeader(IDEMPOTENCY_KEY);
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            writeError(request, response, HttpStatus.BAD_REQUEST,
+                    String.format("%s must have between 1 and %s characters", IDEMPOTENCY_KEY, MAX_KEY_LENGTH));
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String requestHash = IdempotencyStore.requestHash(cachedRequest.getBody());
+
+        String id = IdempotencyStore.id(authentication.getName(), operation(request), key);
+        IdempotentResponse stored = idempotencyStore.begin(id);
+        if (stored == IdempotencyStore.IN_PROGRESS) {
+            writeError(request, response, HttpStatus.CONFLICT,
+                    String.format("A request with this %s is still in progress, try again", IDEMPOTENCY_KEY));
+            return;
+        }
+        if (stored != null) {
+            if (!requestHash.equals(stored.getRequestHash())) {
+                writeError(request, response, HttpStatus.UNPROCESSABLE_ENTITY,
+                        String.format("%s was already used with a different request", IDEMPOTENCY_KEY));
+                return;
+            }
+            replay(stored, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(cachedRequest, wrapper);
+            if (HttpStatus.valueOf(wrapper.getStatus()).is2xxSuccessful()) {
+                idempotencyStore.complete(id, new IdempotentResponse(wrapper.getStatus(), wrapper.getContentType(),
+                        wrapper.getHeader(HttpHeaders.LOCATION), wrapper.getContentAsByteArray(), requestHash));
+                completed = true;
+            }
+        } finally {
+            if (!completed) {
+                idempotencyStore.release(id);
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private static String operation(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (HttpMethod.POST.matches(request.getMethod()) && CHECK_IN.equals(path)) {
+            return "check-in";
+        }
+        if (HttpMethod.PUT.matches(request.getMethod()) && PATH_MATCHER.match(CHECK_OUT, path)) {
+            return "check-out " + path;
+        }
+        return null;
+    }
+
+    private static void replay(IdempotentResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.getStatus());
+        response.setHeader(IDEMPOTENT_REPLAYED, "true");
+        if (stored.getContentType() != null) {
+            response.setContentType(stored.getContentType());
+        }
+        if (stored.getLocation() != null) {
+            response.setHeader(HttpHeaders.LOCATION, stored.getLocation());
+        }
+        response.setContentLength(stored.getBody().length);
+        response.getOutputStream().write(stored.getBody());
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                            String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorMessage(request, status, message));
+    }
+}
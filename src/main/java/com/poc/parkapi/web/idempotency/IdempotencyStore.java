@@ -0,0 +1,155 @@
+package com.poc.parkapi.web.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.poc.parkapi.entity.IdempotencyRecord;
+import com.poc.parkapi.repository.IdempotencyRecordRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Responses of requests sent with an Idempotency-Key, bounded and expired after the ttl.
+ * <p>
+ * A key is first reserved while its request runs, so a concurrent retry is turned away instead of running
+ * the operation twice. Reservations are kept apart from the bounded cache, so size eviction can never drop
+ * one mid-request. Only successful responses are kept; a failed request releases the key and may be
+ * retried. With 'parking.idempotency.persistent' the responses are also written to the idempotency_keys
+ * table, so they survive a restart and are seen by the other nodes once completed.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    public static final String CACHE_NAME = "idempotency-keys";
+
+    /**
+     * Marks a key whose request is still running.
+     */
+    public static final IdempotentResponse IN_PROGRESS = new IdempotentResponse(0, null, null, null, null);
+
+    private final Cache<String, IdempotentResponse> cache;
+
+    /**
+     * Keys whose request is running, unbounded: each entry lives only as long as its request.
+     */
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+
+    private final Duration ttl;
+
+    private final boolean persistent;
+
+    public IdempotencyStore(MeterRegistry meterRegistry, IdempotencyRecordRepository idempotencyRecordRepository,
+                            @Value("${parking.idempotency.max-size:10000}") long maxSize,
+                            @Value("${parking.idempotency.ttl:24h}") Duration ttl,
+                            @Value("${parking.idempotency.persistent:false}") boolean persistent) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.ttl = ttl;
+        this.persistent = persistent;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Reserves the key for a new request and returns null, or returns the stored response of a completed
+     * request, or {@link #IN_PROGRESS} when another request with the key is still running.
+     */
+    public IdempotentResponse begin(String id) {
+        IdempotentResponse completed = cache.getIfPresent(id);
+        if (completed != null) {
+            return completed;
+        }
+        if (!inFlight.add(id)) {
+            return IN_PROGRESS;
+        }
+        // complete() caches the response before dropping the reservation, so one finished in between is seen here
+        completed = cache.getIfPresent(id);
+        if (completed == null && persistent) {
+            completed = idempotencyRecordRepository.findById(id)
+                    .filter(record -> record.getCreationDate().isAfter(LocalDateTime.now().minus(ttl)))
+                    .map(record -> new IdempotentResponse(record.getStatus(), record.getContentType(),
+                            record.getLocation(), record.getBody(), record.getRequestHash()))
+                    .orElse(null);
+            if (completed != null) {
+                cache.put(id, completed);
+            }
+        }
+        if (completed != null) {
+            inFlight.remove(id);
+        }
+        return completed;
+    }
+
+    public void complete(String id, IdempotentResponse response) {
+        if (persistent) {
+            try {
+                idempotencyRecordRepository.save(new IdempotencyRecord(id, response.getStatus(), response.getContentType(),
+                        response.getLocation(), response.getBody(), response.getRequestHash(), LocalDateTime.now()));
+            } catch (RuntimeException ex) {
+                // the operation already committed, so the response is still kept in memory
+                log.warn("Idempotency key could not be persisted", ex);
+            }
+        }
+        cache.put(id, response);
+        inFlight.remove(id);
+    }
+
+    public void release(String id) {
+        inFlight.remove(id);
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    @Scheduled(fixedDelayString = "${parking.idempotency.purge-interval:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        if (persistent) {
+            int deleted = idempotencyRecordRepository.deleteAllCreatedBefore(LocalDateTime.now().minus(ttl));
+            log.debug("{} expired idempotency keys purged", deleted);
+        }
+    }
+
+    /**
+     * Keys are scoped by user and operation, so the same key sent by two gates or for two operations never clash.
+     */
+    public static String id(String username, String operation, String key) {
+        return sha256(username + '\n' + operation + '\n' + key);
+    }
+
+    public static String requestHash(byte[] body) {
+        return HexFormat.of().formatHex(digest(body));
+    }
+
+    private static String sha256(String value) {
+        return HexFormat.of().formatHex(digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static byte[] digest(byte[] value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.poc.parkapi.web.idempotency;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Response of a completed request, replayed as is to a retry with the same key and the same request body.
+ */
+@Getter
+@RequiredArgsConstructor
+public class IdempotentResponse {
+
+    private final int status;
+
+    private final String contentType;
+
+    private final String location;
+
+    private final byte[] body;
+
+    /**
+     * SHA-256 of the request body that produced the response.
+     */
+    private final String requestHash;
+}
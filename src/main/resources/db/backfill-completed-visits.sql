@@ -0,0 +1,6 @@
+-- One-time backfill of clients.completed_visits, run once after the column is created.
+-- Later drift is repaired by CompletedVisitsReconciler when parking.loyalty.reconcile.enabled is set on one node.
+update clients c
+set c.completed_visits = (select count(*)
+                          from clients_have_vacancies cv
+                          where cv.client_id = c.id and cv.departure_date is not null);
@@ -0,0 +1,21 @@
+package com.poc.parkapi;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.TestExecutionListener;
+
+/**
+ * The @Sql fixtures rewrite users and vacancies with plain SQL, behind Hibernate's back, so the second-level
+ * cache is emptied once they ran and before each test starts. Registered with @TestExecutionListeners on the ITs
+ * that use such fixtures, merged with the default listeners.
+ */
+public class SecondLevelCacheEvictionListener implements TestExecutionListener {
+
+    @Override
+    public void beforeTestExecution(TestContext testContext) {
+        if (testContext.hasApplicationContext()) {
+            testContext.getApplicationContext().getBeanProvider(EntityManagerFactory.class)
+                    .ifAvailable(entityManagerFactory -> entityManagerFactory.getCache().evictAll());
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.poc.parkapi.config;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SpringR2dbcConfigTest {
+
+    @Test
+    public void h2UrlKeepsDatabaseAndOptions() {
+        Assertions.assertThat(SpringR2dbcConfig.fromJdbcUrl("jdbc:h2:mem:park;MODE=MySQL;DB_CLOSE_DELAY=-1"))
+                .isEqualTo("r2dbc:pool:h2:mem:///park;MODE=MySQL;DB_CLOSE_DELAY=-1");
+    }
+
+    @Test
+    public void mysqlUrlKeepsServerTimezoneAndDisabledSsl() {
+        Assertions.assertThat(SpringR2dbcConfig.fromJdbcUrl("jdbc:mysql://localhost:3306/park_car?useSSL=false" +
+                        "&allowPublicKeyRetrieval=true&serverTimezone=America/Sao_Paulo&rewriteBatchedStatements=true"))
+                .isEqualTo("r2dbc:pool:mysql://localhost:3306/park_car?serverZoneId=America/Sao_Paulo&sslMode=DISABLED");
+    }
+
+    @Test
+    public void otherDatabasesNeedAnExplicitUrl() {
+        Assertions.assertThatThrownBy(() -> SpringR2dbcConfig.fromJdbcUrl("jdbc:postgresql://localhost/park"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
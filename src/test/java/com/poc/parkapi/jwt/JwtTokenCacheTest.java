@@ -0,0 +1,77 @@
+package com.poc.parkapi.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+public class JwtTokenCacheTest {
+
+    private final JwtTokenCache cache = new JwtTokenCache(new SimpleMeterRegistry(), 100);
+
+    @Test
+    public void hitReturnsCachedClaimsWithoutParsingAgain() {
+        String token = JwtUtils.JWT_BEARER + JwtUtils.createToken("maria@poc.dev", "ADMIN").getToken();
+
+        Claims first = cache.parse(token);
+        Claims second = cache.parse(token);
+
+        Assertions.assertThat(first).isNotNull();
+        // parseToken builds new claims on every call, the same instance can only come from the cache
+        Assertions.assertThat(second).isSameAs(first);
+        Assertions.assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void expiredCachedTokenIsNeverReturned() throws InterruptedException {
+        String token = JwtUtils.JWT_BEARER + token(new Date(System.currentTimeMillis() + 1500));
+
+        Claims claims = cache.parse(token);
+        Assertions.assertThat(claims).isNotNull();
+        Assertions.assertThat(cache.size()).isEqualTo(1);
+
+        Thread.sleep(Math.max(claims.getExpiration().getTime() - System.currentTimeMillis(), 0) + 50);
+
+        Assertions.assertThat(cache.parse(token)).isNull();
+    }
+
+    @Test
+    public void invalidTokenIsNotCached() {
+        Assertions.assertThat(cache.parse(JwtUtils.JWT_BEARER + "not.a.token")).isNull();
+        Assertions.assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void tamperedTokenIsNotCached() {
+        String token = JwtUtils.createToken("joao@poc.dev", "CLIENT").getToken();
+        String[] parts = token.split("\\.");
+        String forged = Jwts.builder()
+                .setSubject("maria@poc.dev")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .claim("role", "ADMIN")
+                .signWith(Keys.hmacShaKeyFor("another-secret-key-of-at-least-256-bits!".getBytes(StandardCharsets.UTF_8)),
+                        SignatureAlgorithm.HS256)
+                .compact()
+                .split("\\.")[1];
+
+        Assertions.assertThat(cache.parse(JwtUtils.JWT_BEARER + parts[0] + "." + forged + "." + parts[2])).isNull();
+        Assertions.assertThat(cache.size()).isZero();
+        Assertions.assertThat(cache.parse(JwtUtils.JWT_BEARER + token)).isNotNull();
+    }
+
+    private static String token(Date expiration) {
+        return Jwts.builder()
+                .setSubject("maria@poc.dev")
+                .setIssuedAt(new Date())
+                .setExpiration(expiration)
+                .claim("role", "ADMIN")
+                .signWith(Keys.hmacShaKeyFor(JwtUtils.SECRET_KEY.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
@@ -0,0 +1,31 @@
+package com.poc.parkapi.jwt;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class JwtUtilsTest {
+
+    @Test
+    public void validTokenReturnsItsUsername() {
+        String token = JwtUtils.JWT_BEARER + JwtUtils.createToken("maria@poc.dev", "ADMIN").getToken();
+
+        Assertions.assertThat(JwtUtils.getUsernameFromToken(token)).isEqualTo("maria@poc.dev");
+        Assertions.assertThat(JwtUtils.isTokenValid(token)).isTrue();
+    }
+
+    @Test
+    public void invalidTokenReturnsNullUsername() {
+        String token = JwtUtils.JWT_BEARER + "not.a.token";
+
+        Assertions.assertThat(JwtUtils.getUsernameFromToken(token)).isNull();
+        Assertions.assertThat(JwtUtils.isTokenValid(token)).isFalse();
+    }
+
+    @Test
+    public void tamperedTokenReturnsNullUsername() {
+        String token = JwtUtils.createToken("joao@poc.dev", "CLIENT").getToken();
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        Assertions.assertThat(JwtUtils.getUsernameFromToken(tampered)).isNull();
+    }
+}
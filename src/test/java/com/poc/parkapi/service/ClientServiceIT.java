@@ -0,0 +1,77 @@
+package com.poc.parkapi.service;
+
+import com.poc.parkapi.SecondLevelCacheEvictionListener;
+import com.poc.parkapi.entity.ClientVacancy;
+import com.poc.parkapi.repository.ClientRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.math.BigDecimal;
+
+@SpringBootTest
+@TestExecutionListeners(listeners = SecondLevelCacheEvictionListener.class,
+        mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS)
+@Sql(scripts = "/sql/parking/parking-insert-completed-visits.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/sql/parking/parking-delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class ClientServiceIT {
+
+    private static final Long JOAO = 10L;
+
+    private static final Long LUCAS = 20L;
+
+    @Autowired
+    ClientService clientService;
+
+    @Autowired
+    ParkingService parkingService;
+
+    @Autowired
+    ClientRepository clientRepository;
+
+    @Test
+    public void reconcileRebuildsCountersFromParkingHistory() {
+        clientService.reconcileCompletedVisits(1000);
+
+        Assertions.assertThat(clientRepository.findCompletedVisitsById(JOAO)).isEqualTo(10);
+        Assertions.assertThat(clientRepository.findCompletedVisitsById(LUCAS)).isEqualTo(0);
+    }
+
+    @Test
+    public void reconcileInSmallChunksCoversEveryClient() {
+        clientService.reconcileCompletedVisits(3);
+
+        Assertions.assertThat(clientRepository.findCompletedVisitsById(JOAO)).isEqualTo(10);
+        Assertions.assertThat(clientRepository.findCompletedVisitsById(LUCAS)).isEqualTo(0);
+    }
+
+    @Test
+    public void registerCompletedVisitReturnsPreviousVisits() {
+        Assertions.assertThat(clientService.registerCompletedVisit(JOAO)).isEqualTo(0);
+        Assertions.assertThat(clientService.registerCompletedVisit(JOAO)).isEqualTo(1);
+
+        Assertions.assertThat(clientRepository.findCompletedVisitsById(JOAO)).isEqualTo(2);
+    }
+
+    @Test
+    public void checkOutGrantsDiscountOnTenthPreviousVisit() {
+        clientService.reconcileCompletedVisits(1000);
+
+        ClientVacancy parking = parkingService.checkOut("20230311-100000");
+
+        Assertions.assertThat(parking.getAmount()).isEqualByComparingTo(new BigDecimal("9.25"));
+        Assertions.assertThat(parking.getDiscount()).isEqualByComparingTo(new BigDecimal("2.77"));
+        Assertions.assertThat(clientRepository.findCompletedVisitsById(JOAO)).isEqualTo(11);
+    }
+
+    @Test
+    public void checkOutWithoutReconcileCountsNoPreviousVisits() {
+        ClientVacancy parking = parkingService.checkOut("20230311-100000");
+
+        Assertions.assertThat(parking.getDiscount()).isEqualByComparingTo(BigDecimal.ZERO);
+        Assertions.assertThat(clientRepository.findCompletedVisitsById(JOAO)).isEqualTo(1);
+    }
+}
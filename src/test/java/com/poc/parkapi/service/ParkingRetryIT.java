@@ -0,0 +1,130 @@
+package com.poc.parkapi.service;
+
+import com.poc.parkapi.SecondLevelCacheEvictionListener;
+import com.poc.parkapi.entity.Client;
+import com.poc.parkapi.entity.ClientVacancy;
+import com.poc.parkapi.event.VacancyStatusChangedEvent;
+import com.poc.parkapi.jwt.JwtAuthentication;
+import com.poc.parkapi.web.dto.parking.CreateParkingDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestExecutionListeners(listeners = SecondLevelCacheEvictionListener.class,
+        mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS)
+@Sql(scripts = "/sql/parking/parking-insert.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/sql/parking/parking-delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class ParkingRetryIT {
+
+    @Autowired
+    ParkingService parkingService;
+
+    @Autowired
+    ConflictInjector conflictInjector;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    WebTestClient client;
+
+    @AfterEach
+    public void stopConflicts() {
+        conflictInjector.conflicts.set(0);
+        conflictInjector.attempts.set(0);
+    }
+
+    @Test
+    public void checkInRetriesConflictAsNewParking() {
+        double conflicts = counter("parking.optimistic.conflicts");
+        conflictInjector.conflicts.set(2);
+
+        ClientVacancy parking = new ClientVacancy();
+        parking.setPlate("YUI-9632");
+        parking.setBrand("FIAT");
+        parking.setModel("Siena");
+        parking.setColor("RED");
+        parking.setClient(new Client());
+        parking.getClient().setCpf("79074426050");
+        // left over by a rolled back attempt
+        parking.setId(999L);
+        parking.setVersion(3L);
+
+        ClientVacancy saved = parkingService.checkIn(parking);
+
+        Assertions.assertThat(conflictInjector.attempts.get()).isEqualTo(3);
+        Assertions.assertThat(saved.getId()).isNotNull().isNotEqualTo(999L);
+        Assertions.assertThat(saved.getVersion()).isZero();
+        Assertions.assertThat(counter("parking.optimistic.conflicts") - conflicts).isEqualTo(2);
+    }
+
+    @Test
+    public void checkInReturnsConflictWhenRetriesAreExhausted() {
+        double exhausted = counter("parking.optimistic.exhausted");
+        conflictInjector.conflicts.set(Integer.MAX_VALUE);
+
+        CreateParkingDto dto = CreateParkingDto.builder().plate("YUI-9632").brand("FIAT").model("Siena")
+                .color("RED").clientCpf("79074426050").build();
+
+        client.post()
+                .uri("/api/v1/parking/check-in")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                .bodyValue(dto)
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody()
+                .jsonPath("status").isEqualTo(409)
+                .jsonPath("path").isEqualTo("/api/v1/parking/check-in");
+
+        Assertions.assertThat(conflictInjector.attempts.get()).isEqualTo(4);
+        Assertions.assertThat(counter("parking.optimistic.exhausted") - exhausted).isEqualTo(1);
+    }
+
+    private double counter(String name) {
+        Counter counter = meterRegistry.find(name).tag("operation", "check-in").counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    /**
+     * Fails the check-in transaction, from inside it, as a concurrent vacancy update would.
+     */
+    static class ConflictInjector {
+
+        final AtomicInteger conflicts = new AtomicInteger();
+
+        final AtomicInteger attempts = new AtomicInteger();
+
+        @EventListener
+        public void onVacancyStatusChanged(VacancyStatusChangedEvent event) {
+            attempts.incrementAndGet();
+            if (conflicts.getAndUpdate(left -> Math.max(left - 1, 0)) > 0) {
+                throw new OptimisticLockingFailureException("Vacancy " + event.getCode() + " was modified concurrently");
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class ConflictConfig {
+
+        @Bean
+        ConflictInjector conflictInjector() {
+            return new ConflictInjector();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.poc.parkapi.service;
+
+import com.poc.parkapi.SecondLevelCacheEvictionListener;
+import com.poc.parkapi.config.SpringSecondLevelCacheConfig;
+import com.poc.parkapi.entity.Client;
+import com.poc.parkapi.entity.ClientVacancy;
+import com.poc.parkapi.entity.User;
+import com.poc.parkapi.enums.StatusVacancy;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.jdbc.Sql;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestExecutionListeners(listeners = SecondLevelCacheEvictionListener.class,
+        mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS)
+@Sql(scripts = "/sql/parking/parking-insert.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/sql/parking/parking-delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class SecondLevelCacheIT {
+
+    @Autowired
+    VacancyService vacancyService;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    ParkingService parkingService;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void vacancyByCodeIsServedFromCache() {
+        vacancyService.findByCode("A-04");
+        long statements = statistics.getPrepareStatementCount();
+
+        Assertions.assertThat(vacancyService.findByCode("A-04").getCode()).isEqualTo("A-04");
+
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+        Assertions.assertThat(region(SpringSecondLevelCacheConfig.VACANCY_NATURAL_ID_REGION).getHitCount()).isPositive();
+        Assertions.assertThat(region(SpringSecondLevelCacheConfig.VACANCY_REGION).getHitCount()).isPositive();
+        Assertions.assertThat(meterRegistry.get("parking.cache.second-level.hit.ratio")
+                .tag("region", SpringSecondLevelCacheConfig.VACANCY_REGION).gauge().value()).isPositive();
+    }
+
+    @Test
+    public void cachedVacancyFollowsCheckIn() {
+        Assertions.assertThat(vacancyService.findByCode("A-04").getStatus()).isEqualTo(StatusVacancy.FREE);
+
+        ClientVacancy clientVacancy = new ClientVacancy();
+        clientVacancy.setPlate("YUI-9632");
+        clientVacancy.setBrand("FIAT");
+        clientVacancy.setModel("Siena");
+        clientVacancy.setColor("RED");
+        clientVacancy.setClient(new Client());
+        clientVacancy.getClient().setCpf("79074426050");
+        parkingService.checkIn(clientVacancy);
+
+        Assertions.assertThat(vacancyService.findByCode("A-04").getStatus()).isEqualTo(StatusVacancy.BUSY);
+    }
+
+    @Test
+    public void cachedUserFollowsPasswordUpdate() {
+        User user = userService.findByUsername("joao@poc.dev");
+        String password = user.getPassword();
+
+        userService.updatePassword(user.getId(), "123456", "654321", "654321");
+
+        Assertions.assertThat(userService.findByUsername("joao@poc.dev").getPassword()).isNotEqualTo(password);
+        Assertions.assertThat(region(SpringSecondLevelCacheConfig.USER_NATURAL_ID_REGION).getHitCount()).isGreaterThan(0);
+    }
+
+    private CacheRegionStatistics region(String region) {
+        return statistics.getCacheRegionStatistics(region);
+    }
+}
@@ -0,0 +1,57 @@
+package com.poc.parkapi.service;
+
+import com.poc.parkapi.SecondLevelCacheEvictionListener;
+import com.poc.parkapi.config.SpringCacheConfig;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@TestExecutionListeners(listeners = SecondLevelCacheEvictionListener.class,
+        mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS)
+@Sql(scripts = "/sql/users/users-insert.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/sql/users/users-delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class UserServiceIT {
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Test
+    public void updatePasswordEvictsUserDetailsAfterCommit() {
+        Cache userDetails = cacheManager.getCache(SpringCacheConfig.USER_DETAILS_CACHE);
+        userDetails.put("joao@poc.dev", "cached");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            userService.updatePassword(200L, "123456", "654321", "654321");
+            Assertions.assertThat(userDetails.get("joao@poc.dev")).isNotNull();
+        });
+
+        Assertions.assertThat(userDetails.get("joao@poc.dev")).isNull();
+    }
+
+    @Test
+    public void rolledBackPasswordUpdateKeepsUserDetails() {
+        Cache userDetails = cacheManager.getCache(SpringCacheConfig.USER_DETAILS_CACHE);
+        userDetails.put("joao@poc.dev", "cached");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            userService.updatePassword(200L, "123456", "654321", "654321");
+            status.setRollbackOnly();
+        });
+
+        Assertions.assertThat(userDetails.get("joao@poc.dev")).isNotNull();
+        userDetails.evict("joao@poc.dev");
+    }
+}
@@ -0,0 +1,102 @@
+package com.poc.parkapi.service;
+
+import com.poc.parkapi.SecondLevelCacheEvictionListener;
+import com.poc.parkapi.entity.Vacancy;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@TestExecutionListeners(listeners = SecondLevelCacheEvictionListener.class,
+        mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS)
+@Sql(scripts = "/sql/vacancies/vacancies-insert.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/sql/vacancies/vacancies-delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class VacancyAllocatorIT {
+
+    private static final Long FREE_A_02 = 20L;
+
+    private static final Long BUSY_A_03 = 30L;
+
+    @Autowired
+    VacancyAllocator vacancyAllocator;
+
+    @Autowired
+    VacancyService vacancyService;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    public void drain() {
+        while (vacancyAllocator.acquire() != null) {
+            // start every test from an empty pool
+        }
+    }
+
+    @Test
+    public void staleIdIsDroppedAndDatabaseIsQueried() {
+        vacancyAllocator.release(BUSY_A_03);
+
+        Vacancy vacancy = transactionTemplate.execute(status -> vacancyService.findByFreeVacancy());
+
+        Assertions.assertThat(vacancy.getCode()).isEqualTo("A-01");
+        Assertions.assertThat(vacancyAllocator.size()).isZero();
+    }
+
+    @Test
+    public void rolledBackClaimOffersIdAgain() {
+        vacancyAllocator.release(FREE_A_02);
+
+        Long claimed = transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            return vacancyAllocator.acquire();
+        });
+
+        Assertions.assertThat(claimed).isEqualTo(FREE_A_02);
+        Assertions.assertThat(vacancyAllocator.acquire()).isEqualTo(FREE_A_02);
+    }
+
+    @Test
+    public void committedClaimIsNotOfferedAgain() {
+        vacancyAllocator.release(FREE_A_02);
+
+        transactionTemplate.executeWithoutResult(status -> vacancyAllocator.acquire());
+
+        Assertions.assertThat(vacancyAllocator.acquire()).isNull();
+    }
+
+    @Test
+    public void releaseOffersIdOnlyAfterCommit() {
+        transactionTemplate.executeWithoutResult(status -> {
+            vacancyAllocator.release(FREE_A_02);
+            Assertions.assertThat(vacancyAllocator.size()).isZero();
+        });
+
+        Assertions.assertThat(vacancyAllocator.acquire()).isEqualTo(FREE_A_02);
+    }
+
+    @Test
+    public void rolledBackReleaseIsNotOffered() {
+        transactionTemplate.executeWithoutResult(status -> {
+            vacancyAllocator.release(FREE_A_02);
+            status.setRollbackOnly();
+        });
+
+        Assertions.assertThat(vacancyAllocator.acquire()).isNull();
+    }
+
+    @Test
+    public void duplicateReleaseIsQueuedOnce() {
+        vacancyAllocator.release(FREE_A_02);
+        vacancyAllocator.release(FREE_A_02);
+
+        Assertions.assertThat(vacancyAllocator.size()).isEqualTo(1);
+        Assertions.assertThat(vacancyAllocator.acquire()).isEqualTo(FREE_A_02);
+        Assertions.assertThat(vacancyAllocator.acquire()).isNull();
+    }
+}
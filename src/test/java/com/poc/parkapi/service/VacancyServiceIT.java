@@ -0,0 +1,93 @@
+package com.poc.parkapi.service;
+
+import com.poc.parkapi.SecondLevelCacheEvictionListener;
+import com.poc.parkapi.entity.Vacancy;
+import com.poc.parkapi.enums.StatusVacancy;
+import com.poc.parkapi.repository.VacancyRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:park-concurrency;MODE=MySQL;DB_CLOSE_DELAY=-1")
+@TestExecutionListeners(listeners = SecondLevelCacheEvictionListener.class,
+        mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS)
+@Sql(scripts = "/sql/vacancies/vacancies-insert-concurrency.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/sql/vacancies/vacancies-delete-concurrency.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class VacancyServiceIT {
+
+    private static final int CHECK_INS = 64;
+
+    @Autowired
+    VacancyService vacancyService;
+
+    @Autowired
+    VacancyAllocator vacancyAllocator;
+
+    @Autowired
+    VacancyRepository vacancyRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Test
+    public void concurrentClaimsFromDatabaseNeverShareVacancy() throws Exception {
+        while (vacancyAllocator.acquire() != null) {
+            // drain, so every claim goes through the skip locked query
+        }
+
+        List<Long> claimed = claimConcurrently();
+
+        Assertions.assertThat(claimed).hasSize(CHECK_INS).doesNotHaveDuplicates();
+        Assertions.assertThat(vacancyRepository.findAllIdsByStatus(StatusVacancy.BUSY)).hasSize(CHECK_INS);
+    }
+
+    @Test
+    public void concurrentClaimsFromAllocatorNeverShareVacancy() throws Exception {
+        vacancyAllocator.load();
+
+        List<Long> claimed = claimConcurrently();
+
+        Assertions.assertThat(claimed).hasSize(CHECK_INS).doesNotHaveDuplicates();
+        Assertions.assertThat(vacancyRepository.findAllIdsByStatus(StatusVacancy.BUSY)).hasSize(CHECK_INS);
+    }
+
+    private List<Long> claimConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CHECK_INS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> futures = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < CHECK_INS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return transactionTemplate.execute(status -> {
+                        Vacancy vacancy = vacancyService.findByFreeVacancy();
+                        vacancy.setStatus(StatusVacancy.BUSY);
+                        return vacancy.getId();
+                    });
+                }));
+            }
+            start.countDown();
+
+            List<Long> claimed = new ArrayList<>();
+            for (Future<Long> future : futures) {
+                claimed.add(future.get(60, TimeUnit.SECONDS));
+            }
+            return claimed;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.poc.parkapi.util;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ReceiptGeneratorTest {
+
+    private static final int THREADS = 8;
+    private static final int RECEIPTS_PER_THREAD = 500_000;
+
+    @Test
+    public void concurrentReceiptsAreUniqueAndMonotonicPerThread() throws Exception {
+        ReceiptGenerator generator = new ReceiptGenerator(7);
+
+        long[] receipts = generateConcurrently(generator);
+
+        Assertions.assertThat(receipts).hasSize(THREADS * RECEIPTS_PER_THREAD);
+        assertNoDuplicates(receipts);
+    }
+
+    @Test
+    public void receiptsFromDifferentNodesNeverCollide() throws Exception {
+        // a frozen clock forces every receipt of both nodes into the same millisecond
+        ReceiptGenerator first = new ReceiptGenerator(1, () -> 1700000000000L);
+        ReceiptGenerator second = new ReceiptGenerator(2, () -> 1700000000000L);
+
+        long[] receipts = new long[200_000];
+        for (int i = 0; i < receipts.length; i += 2) {
+            receipts[i] = decode(first.next());
+            receipts[i + 1] = decode(second.next());
+        }
+
+        assertNoDuplicates(receipts);
+    }
+
+    @Test
+    public void receiptsStayMonotonicWhenClockGoesBackwards() {
+        AtomicLong clock = new AtomicLong(1700000000000L);
+        ReceiptGenerator generator = new ReceiptGenerator(0, clock::get);
+
+        String before = generator.next();
+        clock.addAndGet(-60_000);
+        String after = generator.next();
+
+        Assertions.assertThat(after).isGreaterThan(before);
+    }
+
+    @Test
+    public void receiptFitsTheReceiptColumn() {
+        String receipt = new ReceiptGenerator(ReceiptGenerator.MAX_NODE_ID).next();
+
+        Assertions.assertThat(receipt).hasSize(ReceiptGenerator.LENGTH).matches("[0-9A-Z]+");
+        Assertions.assertThat(receipt.length()).isLessThanOrEqualTo(15);
+    }
+
+    @Test
+    public void invalidNodeIdIsRejected() {
+        Assertions.assertThatThrownBy(() -> new ReceiptGenerator(ReceiptGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private long[] generateConcurrently(ReceiptGenerator generator) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> futures = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    long[] generated = new long[RECEIPTS_PER_THREAD];
+                    String previous = "";
+                    for (int j = 0; j < RECEIPTS_PER_THREAD; j++) {
+                        String receipt = generator.next();
+                        if (receipt.compareTo(previous) <= 0) {
+                            throw new AssertionError(String.format("Receipt %s issued after %s", receipt, previous));
+                        }
+                        generated[j] = decode(receipt);
+                        previous = receipt;
+                    }
+                    return generated;
+                }));
+            }
+            start.countDown();
+
+            long[] receipts = new long[0];
+            for (Future<long[]> future : futures) {
+                long[] generated = future.get(60, TimeUnit.SECONDS);
+                int offset = receipts.length;
+                receipts = Arrays.copyOf(receipts, offset + generated.length);
+                System.arraycopy(generated, 0, receipts, offset, generated.length);
+            }
+            return receipts;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void assertNoDuplicates(long[] receipts) {
+        long[] sorted = receipts.clone();
+        Arrays.sort(sorted);
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] == sorted[i - 1]) {
+                Assertions.fail(String.format("Duplicated receipt %s", Long.toString(sorted[i], 36)));
+            }
+        }
+    }
+
+    private static long decode(String receipt) {
+        return Long.parseLong(receipt, 36);
+    }
+}
@@ -0,0 +1,104 @@
+package com.poc.parkapi.util;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+
+public class TariffEngineTest {
+
+    private static final int SAMPLES = 200_000;
+    private static final long SEED = 20231209L;
+
+    private static final LocalDateTime CHECK_IN = LocalDateTime.of(2023, 3, 13, 10, 15);
+
+    @Test
+    public void totalAgreesWithLegacyCalculationForRandomStays() {
+        Random random = new Random(SEED);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            // mostly stays within the precomputed week, some beyond it and some negative
+            long minutes = switch (i % 10) {
+                case 0 -> -random.nextInt(120);
+                case 1 -> TariffEngine.TABLE_DAYS * 24 * 60 + random.nextInt(365 * 24 * 60);
+                default -> random.nextInt(TariffEngine.TABLE_DAYS * 24 * 60);
+            };
+            LocalDateTime checkOut = CHECK_IN.plusMinutes(minutes).plusSeconds(random.nextInt(60));
+
+            Assertions.assertThat(ParkingUtils.calcTotal(CHECK_IN, checkOut))
+                    .as("total of %s minutes", minutes)
+                    .isEqualTo(legacyTotal(CHECK_IN, checkOut));
+        }
+    }
+
+    @Test
+    public void totalAgreesWithLegacyCalculationOnBracketLimits() {
+        for (long minutes = -1; minutes <= TariffEngine.TABLE_DAYS * 24 * 60 + 60; minutes++) {
+            LocalDateTime checkOut = CHECK_IN.plusMinutes(minutes);
+
+            Assertions.assertThat(ParkingUtils.calcTotal(CHECK_IN, checkOut))
+                    .as("total of %s minutes", minutes)
+                    .isEqualTo(legacyTotal(CHECK_IN, checkOut));
+        }
+    }
+
+    @Test
+    public void discountAgreesWithLegacyCalculationForRandomAmounts() {
+        Random random = new Random(SEED);
+
+        for (int i = 0; i < SAMPLES; i++) {
+            BigDecimal amount = BigDecimal.valueOf(random.nextInt(10_000_000), 2);
+            long numberOfTimes = random.nextInt(4) == 0 ? 10L * random.nextInt(100) : random.nextInt(1000);
+
+            Assertions.assertThat(ParkingUtils.calcDiscount(amount, numberOfTimes))
+                    .as("discount of %s after %s visits", amount, numberOfTimes)
+                    .isEqualTo(legacyDiscount(amount, numberOfTimes));
+        }
+    }
+
+    @Test
+    public void invalidRatesAreRejected() {
+        Assertions.assertThatThrownBy(() -> new TariffEngine(-1, 925, 175, 30))
+                .isInstanceOf(IllegalArgumentException.class);
+        Assertions.assertThatThrownBy(() -> new TariffEngine(500, 925, 175, 101))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * ParkingUtils.calcTotal before the tariff engine.
+     */
+    private static BigDecimal legacyTotal(LocalDateTime checkIn, LocalDateTime checkOut) {
+        long minutes = checkIn.until(checkOut, ChronoUnit.MINUTES);
+        double total = 0.0;
+
+        if (minutes <= 15) {
+            total = 5.00;
+        } else if (minutes <= 60) {
+            total = 9.25;
+        } else {
+            long additionalMinutes = minutes - 60;
+            double totalParts = ((double) additionalMinutes / 15);
+            if (totalParts > (int) totalParts) {
+                total += 9.25 + (1.75 * ((int) totalParts + 1));
+            } else {
+                total += 9.25 + (1.75 * (int) totalParts);
+            }
+        }
+
+        return new BigDecimal(total).setScale(2, RoundingMode.HALF_EVEN);
+    }
+
+    /**
+     * ParkingUtils.calcDiscount before the tariff engine.
+     */
+    private static BigDecimal legacyDiscount(BigDecimal amount, long numberOfTimes) {
+        BigDecimal discount = ((numberOfTimes > 0) && (numberOfTimes % 10 == 0))
+                ? amount.multiply(new BigDecimal(0.30))
+                : new BigDecimal(0);
+        return discount.setScale(2, RoundingMode.HALF_EVEN);
+    }
+}
@@ -0,0 +1,76 @@
+package com.poc.parkapi.util;
+
+import com.poc.parkapi.entity.Tariff;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+public class TariffTableTest {
+
+    private static final TariffEngine FALLBACK = new TariffEngine(500, 925, 175, 30);
+
+    @Test
+    public void zoneWindowsApplyByCheckInTime() {
+        Tariff peak = tariff(1L, "A", "08:00", "18:00", 800);
+        Tariff night = tariff(2L, "A", "22:00", "06:00", 300);
+
+        TariffTable table = TariffTable.compile(List.of(peak, night), FALLBACK);
+
+        Assertions.assertThat(firstQuarter(table, "A-01", "07:59")).isEqualTo(500);
+        Assertions.assertThat(firstQuarter(table, "A-01", "08:00")).isEqualTo(800);
+        Assertions.assertThat(firstQuarter(table, "A-01", "17:59")).isEqualTo(800);
+        Assertions.assertThat(firstQuarter(table, "A-01", "18:00")).isEqualTo(500);
+        Assertions.assertThat(firstQuarter(table, "A-01", "23:30")).isEqualTo(300);
+        Assertions.assertThat(firstQuarter(table, "A-01", "05:59")).isEqualTo(300);
+    }
+
+    @Test
+    public void zonesWithoutOwnRatesUseTheDefaultZone() {
+        Tariff allDay = tariff(1L, Tariff.DEFAULT_ZONE, "00:00", "00:00", 600);
+        Tariff peakB = tariff(2L, "B", "08:00", "10:00", 900);
+
+        TariffTable table = TariffTable.compile(List.of(allDay, peakB), FALLBACK);
+
+        Assertions.assertThat(firstQuarter(table, "A-01", "09:00")).isEqualTo(600);
+        Assertions.assertThat(firstQuarter(table, "B-01", "09:00")).isEqualTo(900);
+        Assertions.assertThat(firstQuarter(table, "B-01", "11:00")).isEqualTo(600);
+    }
+
+    @Test
+    public void emptyTableUsesTheFallbackRates() {
+        TariffTable table = TariffTable.of(FALLBACK);
+
+        Assertions.assertThat(table.engineFor("A-01", LocalDateTime.now())).isSameAs(FALLBACK);
+    }
+
+    @Test
+    public void overlappingWindowsOfAZoneAreRejected() {
+        Tariff morning = tariff(1L, "A", "06:00", "12:00", 800);
+        Tariff noon = tariff(2L, "A", "11:00", "14:00", 900);
+
+        Assertions.assertThatThrownBy(() -> TariffTable.compile(List.of(morning, noon), FALLBACK))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("11:00");
+    }
+
+    private static long firstQuarter(TariffTable table, String vacancyCode, String time) {
+        LocalDateTime entryDate = LocalDateTime.of(2023, 3, 13, 0, 0).with(LocalTime.parse(time));
+        return table.engineFor(vacancyCode, entryDate).totalCents(10);
+    }
+
+    private static Tariff tariff(Long id, String zone, String start, String end, long first15MinutesCents) {
+        Tariff tariff = new Tariff();
+        tariff.setId(id);
+        tariff.setZone(zone);
+        tariff.setStartTime(LocalTime.parse(start));
+        tariff.setEndTime(LocalTime.parse(end));
+        tariff.setFirst15MinutesCents(first15MinutesCents);
+        tariff.setFirst60MinutesCents(925);
+        tariff.setAdditional15MinutesCents(175);
+        tariff.setDiscountPercent(30);
+        return tariff;
+    }
+}
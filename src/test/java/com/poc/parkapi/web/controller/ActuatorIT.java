@@ -0,0 +1,89 @@
+package com.poc.parkapi.web.controller;
+
+import com.poc.parkapi.SecondLevelCacheEvictionListener;
+import com.poc.parkapi.jwt.JwtAuthentication;
+import com.poc.parkapi.web.dto.parking.CreateParkingDto;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@AutoConfigureObservability(tracing = false)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "management.endpoints.web.exposure.include=health,prometheus")
+@TestExecutionListeners(listeners = SecondLevelCacheEvictionListener.class,
+        mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS)
+@Sql(scripts = "/sql/parking/parking-insert.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/sql/parking/parking-delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class ActuatorIT {
+
+    @Autowired
+    WebTestClient client;
+
+    @Test
+    public void getHealthWithoutAuthentication() {
+        client.get()
+                .uri("/actuator/health")
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    public void getPrometheusWithoutAuthentication() {
+        client.get()
+                .uri("/actuator/prometheus")
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    public void getPrometheusWithInvalidProfile() {
+        client.get()
+                .uri("/actuator/prometheus")
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "joao@poc.dev", "123456"))
+                .exchange()
+                .expectStatus().isForbidden();
+    }
+
+    @Test
+    public void getPrometheusWithSuccess() {
+        client.get()
+                .uri("/actuator/prometheus")
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    public void getPrometheusExposesApplicationSeriesAfterCheckIn() {
+        CreateParkingDto dto = CreateParkingDto.builder().plate("YUI-9632").brand("FIAT").model("Siena")
+                .color("RED").clientCpf("79074426050").build();
+
+        client.post()
+                .uri("/api/v1/parking/check-in")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                .bodyValue(dto)
+                .exchange()
+                .expectStatus().isCreated();
+
+        String body = client.get()
+                .uri("/actuator/prometheus")
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .returnResult().getResponseBody();
+
+        Assertions.assertThat(body)
+                .contains("parking_gate_seconds_count{", "operation=\"check-in\"")
+                .contains("parking_vacancies{")
+                .contains("parking_dto_mapping_seconds_count{", "mapper=\"parking\"")
+                .contains("hikaricp_connections");
+    }
+}
@@ -1,5 +1,6 @@
 package com.poc.parkapi.web.controller;
 
+import com.poc.parkapi.SecondLevelCacheEvictionListener;
 import com.poc.parkapi.jwt.JwtAuthentication;
 import com.poc.parkapi.web.dto.client.CreateClientDto;
 import com.poc.parkapi.web.dto.client.ClientResponseDto;
@@ -9,12 +10,15 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.TestExecutionListeners;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestExecutionListeners(listeners = SecondLevelCacheEvictionListener.class,
+        mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS)
 @Sql(scripts = "/sql/clients/clients-insert.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
 @Sql(scripts = "/sql/clients/clients-delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
 public class ClientIT {
@@ -198,6 +202,21 @@ public class ClientIT {
         assertThat(responseBody.getTotalPages()).isEqualTo(2);
     }
 
+    @Test
+    public void getAllClientsWithoutCount() {
+        client
+                .get()
+                .uri("/api/v1/clients?size=1&page=0&count=NONE")
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("content.length()").isEqualTo(1)
+                .jsonPath("hasNext").isEqualTo(true)
+                .jsonPath("totalPages").doesNotExist()
+                .jsonPath("totalElements").doesNotExist();
+    }
+
     @Test
     public void getAllClientsWithInvalidProfile() {
         ErrorMessage responseBody = client
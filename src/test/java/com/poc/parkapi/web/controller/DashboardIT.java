@@ -0,0 +1,173 @@
+package com.poc.parkapi.web.controller;
+
+import com.poc.parkapi.SecondLevelCacheEvictionListener;
+import com.poc.parkapi.jwt.JwtAuthentication;
+import com.poc.parkapi.web.dto.parking.CreateParkingDto;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestExecutionListeners(listeners = SecondLevelCacheEvictionListener.class,
+        mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS)
+@Sql(scripts = "/sql/parking/parking-insert.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/sql/parking/parking-delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class DashboardIT {
+
+    @Autowired
+    WebTestClient client;
+
+    @Test
+    public void getOccupancyWithSuccess() {
+        client.get()
+                .uri("/api/v1/dashboard/occupancy")
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("free").isEqualTo(2)
+                .jsonPath("busy").isEqualTo(3)
+                .jsonPath("total").isEqualTo(5);
+    }
+
+    @Test
+    public void getOccupancyWithInvalidProfile() {
+        client.get()
+                .uri("/api/v1/dashboard/occupancy")
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "joao@poc.dev", "123456"))
+                .exchange()
+                .expectStatus().isForbidden()
+                .expectBody()
+                .jsonPath("status").isEqualTo(403)
+                .jsonPath("method").isEqualTo("GET")
+                .jsonPath("path").isEqualTo("/api/v1/dashboard/occupancy");
+    }
+
+    @Test
+    public void getFreeVacanciesWithSuccess() {
+        client.get()
+                .uri("/api/v1/dashboard/vacancies?status=FREE")
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$").isArray()
+                .jsonPath("[2]").doesNotExist()
+                .jsonPath("[0].code").isEqualTo("A-04")
+                .jsonPath("[1].code").isEqualTo("A-05")
+                .jsonPath("[0].status").isEqualTo("FREE");
+    }
+
+    @Test
+    public void getLatestParkingByCpfNewestFirst() {
+        client.get()
+                .uri("/api/v1/dashboard/parking/cpf/{cpf}?size=5", "85212472067")
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$").isArray()
+                .jsonPath("[2]").doesNotExist()
+                .jsonPath("[0].receipt").isEqualTo("20231209-174024")
+                .jsonPath("[0].vacancyCode").isEqualTo("A-03")
+                .jsonPath("[0].clientCpf").isEqualTo("85212472067")
+                .jsonPath("[0].entryDate").isEqualTo("2023-03-13 10:35:00")
+                .jsonPath("[1].receipt").isEqualTo("20231209-174022");
+    }
+
+    @Test
+    public void getLatestParkingFromClientAsNdjson() {
+        String body = client.get()
+                .uri("/api/v1/dashboard/parking?size=1")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "joao@poc.dev", "123456"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .returnResult().getResponseBody();
+
+        Assertions.assertThat(body.lines().toList()).hasSize(1)
+                .allSatisfy(line -> Assertions.assertThat(line).contains("\"receipt\":\"20231209-174024\""));
+    }
+
+    @Test
+    public void streamVacanciesSendsSnapshotThenChanges() {
+        AtomicReference<Disposable> connection = new AtomicReference<>();
+        Flux<ServerSentEvent<String>> events = client.get()
+                .uri("/api/v1/dashboard/vacancies/stream")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM)
+                .returnResult(new ParameterizedTypeReference<ServerSentEvent<String>>() {})
+                .getResponseBody()
+                .filter(event -> event.event() != null)
+                .replay()
+                .autoConnect(1, connection::set);
+
+        try {
+            List<ServerSentEvent<String>> snapshot = events.take(5).collectList().block(Duration.ofSeconds(10));
+
+            Assertions.assertThat(snapshot).extracting(ServerSentEvent::event).containsOnly("snapshot");
+            Assertions.assertThat(snapshot).extracting(ServerSentEvent::id).containsOnlyNulls();
+            Assertions.assertThat(snapshot.get(0).data()).contains("\"code\":\"A-01\"");
+
+            CreateParkingDto dto = CreateParkingDto.builder().plate("YUI-9632").brand("FIAT").model("Siena")
+                    .color("RED").clientCpf("79074426050").build();
+
+            client.post()
+                    .uri("/api/v1/parking/check-in")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                    .bodyValue(dto)
+                    .exchange()
+                    .expectStatus().isCreated();
+
+            ServerSentEvent<String> change = events.skip(5).next().block(Duration.ofSeconds(10));
+
+            Assertions.assertThat(change.event()).isEqualTo("change");
+            Assertions.assertThat(change.data()).contains("\"code\":\"A-04\"", "\"status\":\"BUSY\"");
+
+            client.post()
+                    .uri("/api/v1/parking/check-in")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                    .bodyValue(dto)
+                    .exchange()
+                    .expectStatus().isCreated();
+
+            ServerSentEvent<String> next = events.skip(6).next().block(Duration.ofSeconds(10));
+
+            // ids number the changes in emission order, not the vacancies
+            Assertions.assertThat(next.data()).contains("\"code\":\"A-05\"");
+            Assertions.assertThat(Long.parseLong(next.id())).isGreaterThan(Long.parseLong(change.id()));
+        } finally {
+            connection.get().dispose();
+        }
+    }
+
+    @Test
+    public void streamVacanciesWithInvalidProfile() {
+        client.get()
+                .uri("/api/v1/dashboard/vacancies/stream")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "joao@poc.dev", "123456"))
+                .exchange()
+                .expectStatus().isForbidden();
+    }
+}
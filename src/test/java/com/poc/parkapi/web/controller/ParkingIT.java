@@ -1,18 +1,28 @@
 package com.poc.parkapi.web.controller;
 
+import com.poc.parkapi.SecondLevelCacheEvictionListener;
 import com.poc.parkapi.jwt.JwtAuthentication;
+import com.poc.parkapi.web.dto.pageable.CursorPageDto;
 import com.poc.parkapi.web.dto.pageable.PageableDto;
+import com.poc.parkapi.web.dto.parking.CreateParkingBatchDto;
 import com.poc.parkapi.web.dto.parking.CreateParkingDto;
+import com.poc.parkapi.web.dto.parking.CreateParkingEntryDto;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.TestExecutionListeners;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestExecutionListeners(listeners = SecondLevelCacheEvictionListener.class,
+        mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS)
 @Sql(scripts = "/sql/parking/parking-insert.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
 @Sql(scripts = "/sql/parking/parking-delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
 public class ParkingIT {
@@ -349,6 +359,65 @@ public class ParkingIT {
         Assertions.assertThat(responseBody.getSize()).isEqualTo(1);
     }
 
+    @Test
+    public void getAllParkingByClientCpfWithEstimatedCount() {
+        client.get()
+                .uri("/api/v1/parking/cpf/{cpf}?size=1&page=0&count=ESTIMATE", "85212472067")
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("content.length()").isEqualTo(1)
+                .jsonPath("hasNext").isEqualTo(true)
+                .jsonPath("totalElements").isEqualTo(2)
+                .jsonPath("totalPages").isEqualTo(2)
+                .jsonPath("estimated").isEqualTo(true);
+    }
+
+    @Test
+    public void exportParkingByClientCpfAsNdjson() {
+        String body = client.get()
+                .uri("/api/v1/parking/cpf/{cpf}/export", "85212472067")
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType("application/x-ndjson")
+                .expectBody(String.class)
+                .returnResult().getResponseBody();
+
+        Assertions.assertThat(body).isNotNull();
+        Assertions.assertThat(body.lines()).hasSize(2);
+        Assertions.assertThat(body.lines().findFirst().orElseThrow())
+                .contains("\"receipt\":\"20231209-174022\"")
+                .contains("\"vacancyCode\":\"A-01\"");
+    }
+
+    @Test
+    public void exportParkingByClientCpfAsCsvFilteredByDate() {
+        String body = client.get()
+                .uri("/api/v1/parking/cpf/{cpf}/export?format=CSV&from=2023-03-13T10:30:00&to=2023-03-14T00:00:00", "85212472067")
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith("text/csv")
+                .expectBody(String.class)
+                .returnResult().getResponseBody();
+
+        Assertions.assertThat(body).isNotNull();
+        Assertions.assertThat(body.lines()).containsExactly(
+                "receipt,plate,brand,model,color,clientCpf,vacancyCode,entryDate,departureDate,amount,discount",
+                "20231209-174024,QWE-1159,FIAT,Palio v3,GRAY,85212472067,A-03,2023-03-13 10:35:00,,,");
+    }
+
+    @Test
+    public void exportParkingByClientCpfWithInvalidProfile() {
+        client.get()
+                .uri("/api/v1/parking/cpf/{cpf}/export", "85212472067")
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "joao@poc.dev", "123456"))
+                .exchange()
+                .expectStatus().isForbidden();
+    }
+
     @Test
     public void getAllParkingByClientCpfWithInvalidProfile() {
         client.get()
@@ -416,4 +485,244 @@ public class ParkingIT {
                 .jsonPath("path").isEqualTo("/api/v1/parking");
     }
 
+    @Test
+    public void getAllParkingByClientCpfWithCursor() {
+        CursorPageDto responseBody = client.get()
+                .uri("/api/v1/parking/cpf/{cpf}/cursor?size=1", "85212472067")
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(CursorPageDto.class)
+                .returnResult().getResponseBody();
+
+        Assertions.assertThat(responseBody).isNotNull();
+        Assertions.assertThat(responseBody.getContent().size()).isEqualTo(1);
+        Assertions.assertThat(responseBody.isHasNext()).isTrue();
+        Assertions.assertThat(responseBody.getNextCursor()).isNotBlank();
+
+        client.get()
+                .uri("/api/v1/parking/cpf/{cpf}/cursor?size=1&cursor={cursor}", "85212472067", responseBody.getNextCursor())
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("content.length()").isEqualTo(1)
+                .jsonPath("content[0].receipt").isEqualTo("20231209-174024")
+                .jsonPath("hasNext").isEqualTo(false)
+                .jsonPath("nextCursor").doesNotExist();
+    }
+
+    @Test
+    public void getAllParkingByClientCpfWithInvalidCursor() {
+        client.get()
+                .uri("/api/v1/parking/cpf/{cpf}/cursor?cursor=invalid", "85212472067")
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("status").isEqualTo(400)
+                .jsonPath("method").isEqualTo("GET")
+                .jsonPath("path").isEqualTo("/api/v1/parking/cpf/85212472067/cursor");
+    }
+
+    @Test
+    public void getAllParkingFromLoggedClientWithCursor() {
+        client.get()
+                .uri("/api/v1/parking/cursor?size=5")
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "joao@poc.dev", "123456"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("content.length()").isEqualTo(2)
+                .jsonPath("content[0].receipt").isEqualTo("20231209-174022")
+                .jsonPath("content[1].receipt").isEqualTo("20231209-174024")
+                .jsonPath("hasNext").isEqualTo(false);
+    }
+
+    @Test
+    public void createCheckInBatchWithResultPerEntry() {
+        CreateParkingEntryDto first = CreateParkingEntryDto.builder().plate("YUI-9632").brand("FIAT").model("Siena")
+                .color("RED").clientCpf("79074426050").entryDate(LocalDateTime.of(2024, 5, 1, 8, 30)).build();
+        CreateParkingEntryDto second = CreateParkingEntryDto.builder().plate("YUI-9633").brand("FORD").model("Ka")
+                .color("BLACK").clientCpf("85212472067").build();
+        CreateParkingEntryDto unknownClient = CreateParkingEntryDto.builder().plate("YUI-9634").brand("FIAT").model("Uno")
+                .color("WHITE").clientCpf("52998224725").build();
+        CreateParkingEntryDto lotFull = CreateParkingEntryDto.builder().plate("YUI-9635").brand("FIAT").model("Mobi")
+                .color("GRAY").clientCpf("79074426050").build();
+
+        client.post()
+                .uri("/api/v1/parking/check-in/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                .bodyValue(new CreateParkingBatchDto(List.of(first, second, unknownClient, lotFull)))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("[0].status").isEqualTo(201)
+                .jsonPath("[0].parking.plate").isEqualTo("YUI-9632")
+                .jsonPath("[0].parking.clientCpf").isEqualTo("79074426050")
+                .jsonPath("[0].parking.vacancyCode").isEqualTo("A-04")
+                .jsonPath("[0].parking.entryDate").isEqualTo("2024-05-01 08:30:00")
+                .jsonPath("[0].parking.receipt").exists()
+                .jsonPath("[1].status").isEqualTo(201)
+                .jsonPath("[1].parking.vacancyCode").isEqualTo("A-05")
+                .jsonPath("[2].status").isEqualTo(404)
+                .jsonPath("[2].message").isEqualTo("Client with cpf=52998224725 not founded")
+                .jsonPath("[3].status").isEqualTo(404)
+                .jsonPath("[3].message").isEqualTo("No free vacancies were found.")
+                .jsonPath("[4]").doesNotExist();
+
+        client.post()
+                .uri("/api/v1/parking/check-in")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                .bodyValue(CreateParkingDto.builder().plate("YUI-9636").brand("FIAT").model("Siena")
+                        .color("RED").clientCpf("79074426050").build())
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void createCheckInBatchWithInvalidFields() {
+        CreateParkingEntryDto future = CreateParkingEntryDto.builder().plate("YUI-9632").brand("FIAT").model("Siena")
+                .color("RED").clientCpf("79074426050").entryDate(LocalDateTime.now().plusDays(1)).build();
+
+        client.post()
+                .uri("/api/v1/parking/check-in/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                .bodyValue(new CreateParkingBatchDto(List.of(future)))
+                .exchange()
+                .expectStatus().isEqualTo(422)
+                .expectBody()
+                .jsonPath("status").isEqualTo(422)
+                .jsonPath("path").isEqualTo("/api/v1/parking/check-in/batch");
+    }
+
+    @Test
+    public void createCheckInBatchWithInvalidProfile() {
+        CreateParkingEntryDto entry = CreateParkingEntryDto.builder().plate("YUI-9632").brand("FIAT").model("Siena")
+                .color("RED").clientCpf("79074426050").build();
+
+        client.post()
+                .uri("/api/v1/parking/check-in/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "joao@poc.dev", "123456"))
+                .bodyValue(new CreateParkingBatchDto(List.of(entry)))
+                .exchange()
+                .expectStatus().isForbidden();
+    }
+
+    @Test
+    public void retryWithIdempotencyKeyReplaysCheckInAndCheckOut() {
+        CreateParkingDto dto = CreateParkingDto.builder().plate("YUI-9632").brand("FIAT").model("Siena")
+                .color("RED").clientCpf("79074426050").build();
+
+        String first = client.post()
+                .uri("/api/v1/parking/check-in")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Idempotency-Key", "gate-1-entry-42")
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                .bodyValue(dto)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().doesNotExist("Idempotent-Replayed")
+                .expectBody(String.class)
+                .returnResult().getResponseBody();
+
+        String retry = client.post()
+                .uri("/api/v1/parking/check-in")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Idempotency-Key", "gate-1-entry-42")
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                .bodyValue(dto)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().valueEquals("Idempotent-Replayed", "true")
+                .expectHeader().exists(HttpHeaders.LOCATION)
+                .expectBody(String.class)
+                .returnResult().getResponseBody();
+
+        Assertions.assertThat(retry).isEqualTo(first).contains("\"vacancyCode\":\"A-04\"");
+
+        // the retry did not claim a vacancy, so the next check-in still finds A-05
+        client.post()
+                .uri("/api/v1/parking/check-in")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                .bodyValue(dto)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("vacancyCode").isEqualTo("A-05");
+
+        String receipt = first.replaceAll(".*\"receipt\":\"([^\"]+)\".*", "$1");
+
+        String checkOut = client.put()
+                .uri("/api/v1/parking/check-out/{receipt}", receipt)
+                .header("Idempotency-Key", "gate-2-exit-7")
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .returnResult().getResponseBody();
+
+        client.put()
+                .uri("/api/v1/parking/check-out/{receipt}", receipt)
+                .header("Idempotency-Key", "gate-2-exit-7")
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("Idempotent-Replayed", "true")
+                .expectBody(String.class).isEqualTo(checkOut);
+
+        // without the key the second check-out is still rejected
+        client.put()
+                .uri("/api/v1/parking/check-out/{receipt}", receipt)
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void reuseIdempotencyKeyWithAnotherBodyReturnsUnprocessableEntity() {
+        CreateParkingDto dto = CreateParkingDto.builder().plate("YUI-9632").brand("FIAT").model("Siena")
+                .color("RED").clientCpf("79074426050").build();
+
+        client.post()
+                .uri("/api/v1/parking/check-in")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Idempotency-Key", "gate-1-entry-43")
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                .bodyValue(dto)
+                .exchange()
+                .expectStatus().isCreated();
+
+        CreateParkingDto other = CreateParkingDto.builder().plate("QWE-1234").brand("FIAT").model("Siena")
+                .color("RED").clientCpf("79074426050").build();
+
+        client.post()
+                .uri("/api/v1/parking/check-in")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Idempotency-Key", "gate-1-entry-43")
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                .bodyValue(other)
+                .exchange()
+                .expectStatus().isEqualTo(422)
+                .expectHeader().doesNotExist("Idempotent-Replayed")
+                .expectBody()
+                .jsonPath("status").isEqualTo(422)
+                .jsonPath("path").isEqualTo("/api/v1/parking/check-in");
+
+        // the rejected request did not claim a vacancy, so the next check-in still finds A-05
+        client.post()
+                .uri("/api/v1/parking/check-in")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                .bodyValue(other)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("vacancyCode").isEqualTo("A-05");
+    }
 }
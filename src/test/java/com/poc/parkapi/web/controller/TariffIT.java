@@ -0,0 +1,107 @@
+package com.poc.parkapi.web.controller;
+
+import com.poc.parkapi.SecondLevelCacheEvictionListener;
+import com.poc.parkapi.jwt.JwtAuthentication;
+import com.poc.parkapi.repository.TariffRepository;
+import com.poc.parkapi.service.TariffService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestExecutionListeners(listeners = SecondLevelCacheEvictionListener.class,
+        mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS)
+@Sql(scripts = "/sql/tariffs/tariffs-insert.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/sql/tariffs/tariffs-delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class TariffIT {
+
+    @Autowired
+    WebTestClient client;
+
+    @Autowired
+    TariffRepository tariffRepository;
+
+    @Autowired
+    TariffService tariffService;
+
+    // the compiled table outlives the test, so the other tests of the context price with the built-in rates again
+    @AfterEach
+    public void restoreTariffs() {
+        tariffRepository.deleteAll();
+        tariffService.reload();
+    }
+
+    @Test
+    public void reloadWithSuccessPutsStoredTariffsInUse() {
+        client.post()
+                .uri("/api/v1/tariffs/reload")
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                .exchange()
+                .expectStatus().isNoContent();
+
+        // 30 minutes on A-01 are 6.00 at the stored rate, against 9.25 at the built-in one
+        client.put()
+                .uri("/api/v1/parking/check-out/{receipt}", "20230311-100000")
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("vacancyCode").isEqualTo("A-01")
+                .jsonPath("amount").isEqualTo(6.0);
+    }
+
+    @Test
+    public void checkOutAfterReloadUsesTheRateInForceAtEntry() {
+        tariffService.reload();
+
+        // the check-out falls in the 12.00 window, the entry 30 minutes ago in the 6.00 one
+        client.put()
+                .uri("/api/v1/parking/check-out/{receipt}", "20230311-100000")
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("amount").isEqualTo(6.0)
+                .jsonPath("discount").isEqualTo(0.0);
+    }
+
+    @Test
+    public void reloadWithInvalidProfile() {
+        client.post()
+                .uri("/api/v1/tariffs/reload")
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "joao@poc.dev", "123456"))
+                .exchange()
+                .expectStatus().isForbidden()
+                .expectBody()
+                .jsonPath("status").isEqualTo(403)
+                .jsonPath("method").isEqualTo("POST")
+                .jsonPath("path").isEqualTo("/api/v1/tariffs/reload");
+    }
+
+    @Test
+    @Sql(scripts = "/sql/tariffs/tariffs-insert-overlapping.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "/sql/tariffs/tariffs-delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    public void reloadWithOverlappingTariffsKeepsTheCurrentOnes() {
+        client.post()
+                .uri("/api/v1/tariffs/reload")
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                .exchange()
+                .expectStatus().isEqualTo(422)
+                .expectBody()
+                .jsonPath("status").isEqualTo(422)
+                .jsonPath("method").isEqualTo("POST")
+                .jsonPath("path").isEqualTo("/api/v1/tariffs/reload");
+
+        client.put()
+                .uri("/api/v1/parking/check-out/{receipt}", "20230311-100000")
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("amount").isEqualTo(9.25);
+    }
+}
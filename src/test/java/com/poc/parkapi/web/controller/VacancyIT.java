@@ -1,16 +1,23 @@
 package com.poc.parkapi.web.controller;
 
+import com.poc.parkapi.SecondLevelCacheEvictionListener;
 import com.poc.parkapi.jwt.JwtAuthentication;
+import com.poc.parkapi.web.dto.vacancy.CreateVacanciesDto;
 import com.poc.parkapi.web.dto.vacancy.CreateVacancyDto;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.TestExecutionListeners;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
+import java.util.List;
+
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestExecutionListeners(listeners = SecondLevelCacheEvictionListener.class,
+        mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS)
 @Sql(scripts = "/sql/vacancies/vacancies-insert.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
 @Sql(scripts = "/sql/vacancies/vacancies-delete.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
 public class VacancyIT {
@@ -133,4 +140,88 @@ public class VacancyIT {
                 .jsonPath("method").isEqualTo("GET")
                 .jsonPath("path").isEqualTo("/api/v1/vacancies/A-01");
     }
+
+    @Test
+    public void createVacanciesFromRangeReportingConflicts() {
+        client
+                .post()
+                .uri("/api/v1/vacancies/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                .bodyValue(new CreateVacanciesDto(null, "A-03..B-05", "FREE"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("created[0].code").isEqualTo("A-05")
+                .jsonPath("created[0].id").exists()
+                .jsonPath("created[0].status").isEqualTo("FREE")
+                .jsonPath("created[3].code").isEqualTo("B-05")
+                .jsonPath("created[4]").doesNotExist()
+                .jsonPath("conflicts[0].code").isEqualTo("A-03")
+                .jsonPath("conflicts[0].message").isEqualTo("Vacancy with code 'A-03' already registered")
+                .jsonPath("conflicts[1].code").isEqualTo("A-04")
+                .jsonPath("conflicts[2]").doesNotExist();
+
+        client
+                .get()
+                .uri("/api/v1/vacancies/{code}", "B-04")
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("code").isEqualTo("B-04");
+    }
+
+    @Test
+    public void createVacanciesFromCodesAlreadyRegistered() {
+        client
+                .post()
+                .uri("/api/v1/vacancies/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                .bodyValue(new CreateVacanciesDto(List.of("A-01", "A-02", "A-01"), null, "BUSY"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("created").isEmpty()
+                .jsonPath("conflicts[0].code").isEqualTo("A-01")
+                .jsonPath("conflicts[1].code").isEqualTo("A-02")
+                .jsonPath("conflicts[2]").doesNotExist();
+    }
+
+    @Test
+    public void createVacanciesWithInvalidRange() {
+        client
+                .post()
+                .uri("/api/v1/vacancies/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                .bodyValue(new CreateVacanciesDto(null, "B-01..A-10", "FREE"))
+                .exchange()
+                .expectStatus().isEqualTo(422)
+                .expectBody()
+                .jsonPath("status").isEqualTo(422)
+                .jsonPath("path").isEqualTo("/api/v1/vacancies/batch");
+
+        client
+                .post()
+                .uri("/api/v1/vacancies/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "maria@poc.dev", "123456"))
+                .bodyValue(new CreateVacanciesDto(List.of("A-05"), "A-01..A-10", "FREE"))
+                .exchange()
+                .expectStatus().isEqualTo(422);
+    }
+
+    @Test
+    public void createVacanciesWithInvalidProfile() {
+        client
+                .post()
+                .uri("/api/v1/vacancies/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(JwtAuthentication.getHeaderAuthorization(client, "joao@poc.dev", "123456"))
+                .bodyValue(new CreateVacanciesDto(null, "A-05..A-06", "FREE"))
+                .exchange()
+                .expectStatus().isForbidden();
+    }
 }
@@ -0,0 +1,71 @@
+package com.poc.parkapi.web.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.poc.parkapi.repository.projection.ClientVacancyProjection;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+public class ParkingExportWriterTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    public void csvQuotesSeparatorsQuotesAndLineBreaks() throws IOException {
+        String csv = export(ParkingExportFormat.CSV, row("QWE-1159", "FIAT", "Palio, v1", "GR\"AY\r"));
+
+        Assertions.assertThat(csv).contains(",QWE-1159,FIAT,\"Palio, v1\",\"GR\"\"AY\r\",");
+    }
+
+    @Test
+    public void csvEscapesFormulaPrefixes() throws IOException {
+        String csv = export(ParkingExportFormat.CSV, row("-1", "=HYPERLINK(\"x\")", "+1", "@SUM(A1)"));
+
+        Assertions.assertThat(csv).contains(",'-1,\"'=HYPERLINK(\"\"x\"\")\",'+1,'@SUM(A1),");
+    }
+
+    @Test
+    public void csvAndNdjsonShareTheDateFormat() throws IOException {
+        String csv = export(ParkingExportFormat.CSV, row("QWE-1159", "FIAT", "Palio", "GRAY"));
+        String ndjson = export(ParkingExportFormat.NDJSON, row("QWE-1159", "FIAT", "Palio", "GRAY"));
+
+        Assertions.assertThat(csv).contains(",2023-03-13 14:35:00,2023-03-13 16:05:00,");
+        Assertions.assertThat(ndjson)
+                .contains("\"entryDate\":\"2023-03-13 14:35:00\"")
+                .contains("\"departureDate\":\"2023-03-13 16:05:00\"");
+    }
+
+    private static String export(ParkingExportFormat format, ClientVacancyProjection row) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ParkingExportWriter writer = ParkingExportWriter.of(format, OBJECT_MAPPER, out)) {
+            writer.write(row);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static ClientVacancyProjection row(String plate, String brand, String model, String color) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", 1L);
+        values.put("plate", plate);
+        values.put("brand", brand);
+        values.put("model", model);
+        values.put("color", color);
+        values.put("clientCpf", "85212472067");
+        values.put("receipt", "20231209-174024");
+        values.put("entryDate", LocalDateTime.of(2023, 3, 13, 14, 35));
+        values.put("departureDate", LocalDateTime.of(2023, 3, 13, 16, 5));
+        values.put("vacancyCode", "A-03");
+        values.put("amount", new BigDecimal("19.25"));
+        values.put("discount", BigDecimal.ZERO);
+        return new SpelAwareProxyProjectionFactory().createProjection(ClientVacancyProjection.class, values);
+    }
+}
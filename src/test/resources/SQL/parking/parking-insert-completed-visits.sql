@@ -0,0 +1,32 @@
+insert into users (id, username, password, role) values (100, 'maria@poc.dev', '$2a$10$ezozZgbQ4/w55B2dBdCQ6u.5qZbwxDZGJCpPGx/QQ27/y.SXyyGtu', 'ROLE_ADMIN');
+insert into users (id, username, password, role) values (200, 'joao@poc.dev', '$2a$10$ezozZgbQ4/w55B2dBdCQ6u.5qZbwxDZGJCpPGx/QQ27/y.SXyyGtu', 'ROLE_CLIENT');
+insert into users (id, username, password, role) values (300, 'lucas@poc.dev', '$2a$10$ezozZgbQ4/w55B2dBdCQ6u.5qZbwxDZGJCpPGx/QQ27/y.SXyyGtu', 'ROLE_CLIENT');
+
+insert into clients (id, name, cpf, user_id, completed_visits) values (10, 'Joao', '85212472067', 200, 0);
+insert into clients (id, name, cpf, user_id, completed_visits) values (20, 'Lucas', '79074426050', 300, 7);
+
+insert into vacancies(id, code, status) values (10, 'A-01', 'BUSY');
+insert into vacancies(id, code, status) values (20, 'A-02', 'FREE');
+
+insert into clients_have_vacancies(receipt_number, plate, brand, model, color, entry_date, departure_date, amount, discount, client_id, vacancy_id)
+values('20230301-100000', 'QWE-1489', 'FIAT', 'Palio v1', 'GREEN', '2023-03-01 10:00:00', '2023-03-01 10:30:00', 9.25, 0, 10, 20);
+insert into clients_have_vacancies(receipt_number, plate, brand, model, color, entry_date, departure_date, amount, discount, client_id, vacancy_id)
+values('20230302-100000', 'QWE-1489', 'FIAT', 'Palio v1', 'GREEN', '2023-03-02 10:00:00', '2023-03-02 10:30:00', 9.25, 0, 10, 20);
+insert into clients_have_vacancies(receipt_number, plate, brand, model, color, entry_date, departure_date, amount, discount, client_id, vacancy_id)
+values('20230303-100000', 'QWE-1489', 'FIAT', 'Palio v1', 'GREEN', '2023-03-03 10:00:00', '2023-03-03 10:30:00', 9.25, 0, 10, 20);
+insert into clients_have_vacancies(receipt_number, plate, brand, model, color, entry_date, departure_date, amount, discount, client_id, vacancy_id)
+values('20230304-100000', 'QWE-1489', 'FIAT', 'Palio v1', 'GREEN', '2023-03-04 10:00:00', '2023-03-04 10:30:00', 9.25, 0, 10, 20);
+insert into clients_have_vacancies(receipt_number, plate, brand, model, color, entry_date, departure_date, amount, discount, client_id, vacancy_id)
+values('20230305-100000', 'QWE-1489', 'FIAT', 'Palio v1', 'GREEN', '2023-03-05 10:00:00', '2023-03-05 10:30:00', 9.25, 0, 10, 20);
+insert into clients_have_vacancies(receipt_number, plate, brand, model, color, entry_date, departure_date, amount, discount, client_id, vacancy_id)
+values('20230306-100000', 'QWE-1489', 'FIAT', 'Palio v1', 'GREEN', '2023-03-06 10:00:00', '2023-03-06 10:30:00', 9.25, 0, 10, 20);
+insert into clients_have_vacancies(receipt_number, plate, brand, model, color, entry_date, departure_date, amount, discount, client_id, vacancy_id)
+values('20230307-100000', 'QWE-1489', 'FIAT', 'Palio v1', 'GREEN', '2023-03-07 10:00:00', '2023-03-07 10:30:00', 9.25, 0, 10, 20);
+insert into clients_have_vacancies(receipt_number, plate, brand, model, color, entry_date, departure_date, amount, discount, client_id, vacancy_id)
+values('20230308-100000', 'QWE-1489', 'FIAT', 'Palio v1', 'GREEN', '2023-03-08 10:00:00', '2023-03-08 10:30:00', 9.25, 0, 10, 20);
+insert into clients_have_vacancies(receipt_number, plate, brand, model, color, entry_date, departure_date, amount, discount, client_id, vacancy_id)
+values('20230309-100000', 'QWE-1489', 'FIAT', 'Palio v1', 'GREEN', '2023-03-09 10:00:00', '2023-03-09 10:30:00', 9.25, 0, 10, 20);
+insert into clients_have_vacancies(receipt_number, plate, brand, model, color, entry_date, departure_date, amount, discount, client_id, vacancy_id)
+values('20230310-100000', 'QWE-1489', 'FIAT', 'Palio v1', 'GREEN', '2023-03-10 10:00:00', '2023-03-10 10:30:00', 9.25, 0, 10, 20);
+insert into clients_have_vacancies(receipt_number, plate, brand, model, color, entry_date, client_id, vacancy_id)
+values('20230311-100000', 'QWE-1489', 'FIAT', 'Palio v1', 'GREEN', dateadd('MINUTE', -30, localtimestamp), 10, 10);
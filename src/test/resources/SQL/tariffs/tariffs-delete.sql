@@ -0,0 +1,7 @@
+delete from clients_have_vacancies;
+
+delete from vacancies;
+
+delete from clients;
+
+delete from users;
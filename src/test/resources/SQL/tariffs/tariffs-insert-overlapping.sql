@@ -0,0 +1,15 @@
+insert into users (id, username, password, role) values (100, 'maria@poc.dev', '$2a$10$ezozZgbQ4/w55B2dBdCQ6u.5qZbwxDZGJCpPGx/QQ27/y.SXyyGtu', 'ROLE_ADMIN');
+insert into users (id, username, password, role) values (200, 'joao@poc.dev', '$2a$10$ezozZgbQ4/w55B2dBdCQ6u.5qZbwxDZGJCpPGx/QQ27/y.SXyyGtu', 'ROLE_CLIENT');
+
+insert into clients (id, name, cpf, user_id, completed_visits) values (10, 'Joao', '85212472067', 200, 0);
+
+insert into vacancies(id, code, status) values (10, 'A-01', 'BUSY');
+
+insert into clients_have_vacancies(receipt_number, plate, brand, model, color, entry_date, client_id, vacancy_id)
+values('20230311-100000', 'QWE-1489', 'FIAT', 'Palio v1', 'GREEN', dateadd('MINUTE', -30, localtimestamp), 10, 10);
+
+-- both windows of zone A cover the entry, so the table can't be compiled
+insert into tariffs(id, zone, start_time, end_time, first_15_minutes_cents, first_60_minutes_cents, additional_15_minutes_cents, discount_percent)
+values(10, 'A', cast(dateadd('MINUTE', -40, localtimestamp) as time), cast(dateadd('MINUTE', -20, localtimestamp) as time), 300, 600, 100, 20);
+insert into tariffs(id, zone, start_time, end_time, first_15_minutes_cents, first_60_minutes_cents, additional_15_minutes_cents, discount_percent)
+values(20, 'A', cast(dateadd('MINUTE', -35, localtimestamp) as time), cast(dateadd('MINUTE', 20, localtimestamp) as time), 700, 1200, 300, 20);
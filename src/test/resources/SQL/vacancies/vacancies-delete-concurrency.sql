@@ -0,0 +1 @@
+delete from vacancies;
\ No newline at end of file
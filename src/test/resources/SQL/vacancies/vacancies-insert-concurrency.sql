@@ -0,0 +1,100 @@
+insert into vacancies(id, code, status) values (1001, 'C001', 'FREE');
+insert into vacancies(id, code, status) values (1002, 'C002', 'FREE');
+insert into vacancies(id, code, status) values (1003, 'C003', 'FREE');
+insert into vacancies(id, code, status) values (1004, 'C004', 'FREE');
+insert into vacancies(id, code, status) values (1005, 'C005', 'FREE');
+insert into vacancies(id, code, status) values (1006, 'C006', 'FREE');
+insert into vacancies(id, code, status) values (1007, 'C007', 'FREE');
+insert into vacancies(id, code, status) values (1008, 'C008', 'FREE');
+insert into vacancies(id, code, status) values (1009, 'C009', 'FREE');
+insert into vacancies(id, code, status) values (1010, 'C010', 'FREE');
+insert into vacancies(id, code, status) values (1011, 'C011', 'FREE');
+insert into vacancies(id, code, status) values (1012, 'C012', 'FREE');
+insert into vacancies(id, code, status) values (1013, 'C013', 'FREE');
+insert into vacancies(id, code, status) values (1014, 'C014', 'FREE');
+insert into vacancies(id, code, status) values (1015, 'C015', 'FREE');
+insert into vacancies(id, code, status) values (1016, 'C016', 'FREE');
+insert into vacancies(id, code, status) values (1017, 'C017', 'FREE');
+insert into vacancies(id, code, status) values (1018, 'C018', 'FREE');
+insert into vacancies(id, code, status) values (1019, 'C019', 'FREE');
+insert into vacancies(id, code, status) values (1020, 'C020', 'FREE');
+insert into vacancies(id, code, status) values (1021, 'C021', 'FREE');
+insert into vacancies(id, code, status) values (1022, 'C022', 'FREE');
+insert into vacancies(id, code, status) values (1023, 'C023', 'FREE');
+insert into vacancies(id, code, status) values (1024, 'C024', 'FREE');
+insert into vacancies(id, code, status) values (1025, 'C025', 'FREE');
+insert into vacancies(id, code, status) values (1026, 'C026', 'FREE');
+insert into vacancies(id, code, status) values (1027, 'C027', 'FREE');
+insert into vacancies(id, code, status) values (1028, 'C028', 'FREE');
+insert into vacancies(id, code, status) values (1029, 'C029', 'FREE');
+insert into vacancies(id, code, status) values (1030, 'C030', 'FREE');
+insert into vacancies(id, code, status) values (1031, 'C031', 'FREE');
+insert into vacancies(id, code, status) values (1032, 'C032', 'FREE');
+insert into vacancies(id, code, status) values (1033, 'C033', 'FREE');
+insert into vacancies(id, code, status) values (1034, 'C034', 'FREE');
+insert into vacancies(id, code, status) values (1035, 'C035', 'FREE');
+insert into vacancies(id, code, status) values (1036, 'C036', 'FREE');
+insert into vacancies(id, code, status) values (1037, 'C037', 'FREE');
+insert into vacancies(id, code, status) values (1038, 'C038', 'FREE');
+insert into vacancies(id, code, status) values (1039, 'C039', 'FREE');
+insert into vacancies(id, code, status) values (1040, 'C040', 'FREE');
+insert into vacancies(id, code, status) values (1041, 'C041', 'FREE');
+insert into vacancies(id, code, status) values (1042, 'C042', 'FREE');
+insert into vacancies(id, code, status) values (1043, 'C043', 'FREE');
+insert into vacancies(id, code, status) values (1044, 'C044', 'FREE');
+insert into vacancies(id, code, status) values (1045, 'C045', 'FREE');
+insert into vacancies(id, code, status) values (1046, 'C046', 'FREE');
+insert into vacancies(id, code, status) values (1047, 'C047', 'FREE');
+insert into vacancies(id, code, status) values (1048, 'C048', 'FREE');
+insert into vacancies(id, code, status) values (1049, 'C049', 'FREE');
+insert into vacancies(id, code, status) values (1050, 'C050', 'FREE');
+insert into vacancies(id, code, status) values (1051, 'C051', 'FREE');
+insert into vacancies(id, code, status) values (1052, 'C052', 'FREE');
+insert into vacancies(id, code, status) values (1053, 'C053', 'FREE');
+insert into vacancies(id, code, status) values (1054, 'C054', 'FREE');
+insert into vacancies(id, code, status) values (1055, 'C055', 'FREE');
+insert into vacancies(id, code, status) values (1056, 'C056', 'FREE');
+insert into vacancies(id, code, status) values (1057, 'C057', 'FREE');
+insert into vacancies(id, code, status) values (1058, 'C058', 'FREE');
+insert into vacancies(id, code, status) values (1059, 'C059', 'FREE');
+insert into vacancies(id, code, status) values (1060, 'C060', 'FREE');
+insert into vacancies(id, code, status) values (1061, 'C061', 'FREE');
+insert into vacancies(id, code, status) values (1062, 'C062', 'FREE');
+insert into vacancies(id, code, status) values (1063, 'C063', 'FREE');
+insert into vacancies(id, code, status) values (1064, 'C064', 'FREE');
+insert into vacancies(id, code, status) values (1065, 'C065', 'FREE');
+insert into vacancies(id, code, status) values (1066, 'C066', 'FREE');
+insert into vacancies(id, code, status) values (1067, 'C067', 'FREE');
+insert into vacancies(id, code, status) values (1068, 'C068', 'FREE');
+insert into vacancies(id, code, status) values (1069, 'C069', 'FREE');
+insert into vacancies(id, code, status) values (1070, 'C070', 'FREE');
+insert into vacancies(id, code, status) values (1071, 'C071', 'FREE');
+insert into vacancies(id, code, status) values (1072, 'C072', 'FREE');
+insert into vacancies(id, code, status) values (1073, 'C073', 'FREE');
+insert into vacancies(id, code, status) values (1074, 'C074', 'FREE');
+insert into vacancies(id, code, status) values (1075, 'C075', 'FREE');
+insert into vacancies(id, code, status) values (1076, 'C076', 'FREE');
+insert into vacancies(id, code, status) values (1077, 'C077', 'FREE');
+insert into vacancies(id, code, status) values (1078, 'C078', 'FREE');
+insert into vacancies(id, code, status) values (1079, 'C079', 'FREE');
+insert into vacancies(id, code, status) values (1080, 'C080', 'FREE');
+insert into vacancies(id, code, status) values (1081, 'C081', 'FREE');
+insert into vacancies(id, code, status) values (1082, 'C082', 'FREE');
+insert into vacancies(id, code, status) values (1083, 'C083', 'FREE');
+insert into vacancies(id, code, status) values (1084, 'C084', 'FREE');
+insert into vacancies(id, code, status) values (1085, 'C085', 'FREE');
+insert into vacancies(id, code, status) values (1086, 'C086', 'FREE');
+insert into vacancies(id, code, status) values (1087, 'C087', 'FREE');
+insert into vacancies(id, code, status) values (1088, 'C088', 'FREE');
+insert into vacancies(id, code, status) values (1089, 'C089', 'FREE');
+insert into vacancies(id, code, status) values (1090, 'C090', 'FREE');
+insert into vacancies(id, code, status) values (1091, 'C091', 'FREE');
+insert into vacancies(id, code, status) values (1092, 'C092', 'FREE');
+insert into vacancies(id, code, status) values (1093, 'C093', 'FREE');
+insert into vacancies(id, code, status) values (1094, 'C094', 'FREE');
+insert into vacancies(id, code, status) values (1095, 'C095', 'FREE');
+insert into vacancies(id, code, status) values (1096, 'C096', 'FREE');
+insert into vacancies(id, code, status) values (1097, 'C097', 'FREE');
+insert into vacancies(id, code, status) values (1098, 'C098', 'FREE');
+insert into vacancies(id, code, status) values (1099, 'C099', 'FREE');
+insert into vacancies(id, code, status) values (1100, 'C100', 'FREE');
\ No newline at end of file